@@ -0,0 +1,53 @@
+package com.game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.Point;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// MazeGenerator 단계별 (알고리즘별): 미로 파기만, 탈출 경로 BFS, 아이템 배치.
+// 경로와 아이템은 setup에서 파 둔 같은 미로로 재서 알고리즘끼리는 미로 모양 차이만 남음
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class MazeGenerationBench {
+
+    @Param({"41", "201", "1001", "4001"})
+    public int size;
+
+    @Param({"backtracker", "kruskal", "wilson", "prim", "eller"})
+    public String algorithm;
+
+    private MazeGenerator generator;
+    private MazeGrid grid;
+    private List<Point> path;
+
+    private long seed;
+
+    @Setup
+    public void setup() {
+        generator = new MazeGenerator(size, size, MazeGenerator.ITEM_COUNT, MazeAlgorithm.byName(algorithm));
+        grid = generator.carve(1);
+        path = generator.escapePath(grid);
+    }
+
+    @Benchmark
+    public MazeGrid carve() {
+        return generator.carve(seed++);
+    }
+
+    @Benchmark
+    public List<Point> escapePath() {
+        return generator.escapePath(grid);
+    }
+
+    @Benchmark
+    public int[] placeItems() {
+        return generator.placeItems(grid, path, new SplittableRandom(seed++));
+    }
+}
@@ -0,0 +1,38 @@
+package com.game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// FlowField: 플레이어가 칸을 넘어갈 때마다 하는 표 다시 만들기.
+// 작은 미로는 미로 전체, 창(FlowField.MIN_RADIUS)보다 큰 미로는 플레이어 주변 창만 BFS
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathfindingBench {
+
+    @Param({"41", "101", "201", "1001"})
+    public int size;
+
+    private MazeGrid map;
+    private FlowField flow;
+    private boolean flip;
+
+    @Setup
+    public void setup() {
+        map = new MazeGenerator(size, size).generate(1).grid;
+        flow = new FlowField();
+    }
+
+    // 시작 칸과 한 칸 옆을 번갈아 넣어 매번 다시 만들게 함 (몬스터는 플레이어 칸에 둠)
+    @Benchmark
+    public FlowField flowField() {
+        flip = !flip;
+        double p = flip ? 2.5 : 1.5;
+        flow.update(map, p, 1.5, p, 1.5);
+        return flow;
+    }
+}
@@ -0,0 +1,58 @@
+package com.game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.Point;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Screen.render: 탈출 경로 위 여러 위치에서 한 프레임
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RenderBench {
+
+    // RenderBenchmark 카메라 경로의 프레임 번호 (시작, 복도, 중간, 출구 근처)
+    @Param({"0", "150", "400", "700"})
+    public int frame;
+
+    @Param({"1", "4"})
+    public int threads;
+
+    private Screen screen;
+    private WorldSnapshot snap;
+
+    @Setup
+    public void setup() {
+        Maze maze = new MazeGenerator(41, 41).generate(1);
+        List<Point> path = maze.escapePath;
+
+        Monster monster = maze.newMonster();
+        monster.spawned = true;
+
+        Camera camera = new Camera(1.5, 1.5, 0);
+        camera.setMonster(monster);
+        RenderBenchmark.place(camera, monster, path, frame);
+
+        List<Item> items = maze.newItems();
+        snap = new WorldSnapshot(items.size());
+        snap.capture(camera, items, 0);
+
+        screen = new Screen(Game.WIDTH, Game.HEIGHT, maze.grid, items);
+        screen.setThreads(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        screen.dispose();
+    }
+
+    @Benchmark
+    public int render() {
+        screen.render(snap);
+        return screen.getImage().getRGB(Game.WIDTH / 2, Game.HEIGHT / 2);
+    }
+}
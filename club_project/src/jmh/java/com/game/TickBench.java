@@ -0,0 +1,50 @@
+package com.game;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.Point;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 시뮬레이션 한 틱 (Simulation.step): 카메라 이동, 몬스터 추적 (flow field), 아이템
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TickBench {
+
+    // 플레이어가 탈출 경로 한 칸을 지나는 틱 수 (걷는 속도 0.035칸/틱)
+    private static final int TICKS_PER_CELL = 29;
+
+    private Simulation sim;
+    private List<Point> path;
+    private int frame = 0;
+
+    @Setup
+    public void setup() {
+        Maze maze = new MazeGenerator(41, 41).generate(1);
+        sim = maze.newSimulation();
+        path = maze.escapePath;
+
+        sim.camera.getMonster().spawned = true;
+    }
+
+    @Benchmark
+    public Camera tick() {
+        // 플레이어를 탈출 경로 위에서 왕복시켜 칸을 넘을 때마다 표를 다시 만들게 함.
+        // 잡히거나 탈출해도 계속 돌 수 있게 상태를 되돌림
+        Camera camera = sim.camera;
+        int n = path.size() - 1;
+        int i = (frame++ / TICKS_PER_CELL) % (n * 2);
+        Point p = path.get(i <= n ? i : n * 2 - i);
+        camera.x = p.x + 0.5;
+        camera.y = p.y + 0.5;
+        camera.gameOver = false;
+        camera.escaped = false;
+
+        sim.step(Input.FORWARD, 0.01, false);
+        return camera;
+    }
+}
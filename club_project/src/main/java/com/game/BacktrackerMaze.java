@@ -0,0 +1,80 @@
+package com.game;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+// 깊이 우선 백트래킹: 길고 구불구불한 통로 하나에 짧은 가지가 붙는 미로 (기본값)
+public class BacktrackerMaze implements MazeAlgorithm {
+
+    private static final int[] DX = {1, -1, 0, 0};
+    private static final int[] DY = {0, 0, 1, -1};
+
+    // 재귀 백트래킹과 같은 순서로 파되 스택을 int 배열로 직접 관리 (큰 미로에서도 스택 넘침 없음)
+    // 스택 한 칸 = 칸 번호(MazeGrid.index) + 상태(섞은 방향 순서 2비트 x 4 | 다음에 볼 순번 << 8)
+    @Override
+    public String name() {
+        return "backtracker";
+    }
+
+    @Override
+    public void carve(MazeGrid m, RandomGenerator r) {
+        carve(1, 1, m, r);
+    }
+
+    private static void carve(int sx, int sy, MazeGrid m, RandomGenerator r) {
+        int h = m.height;
+        int w = m.width;
+        byte[] cells = m.cells;
+
+        int[] stack = new int[256];
+        int[] states = new int[256];
+        int top = 0;
+
+        stack[top] = m.index(sx, sy);
+        states[top] = shuffledDirections(r);
+        top++;
+        cells[stack[0]] = MazeGrid.FLOOR;
+
+        while (top > 0) {
+            int i = top - 1;
+            int state = states[i];
+            int k = state >>> 8;
+            if (k == 4) {
+                top--;
+                continue;
+            }
+            states[i] = state + (1 << 8);
+
+            int dir = (state >>> (k * 2)) & 3;
+            int c = stack[i];
+            int nx = m.xOf(c) + DX[dir] * 2;
+            int ny = m.yOf(c) + DY[dir] * 2;
+            int step = DX[dir] + DY[dir] * m.stride;
+            if (ny > 0 && nx > 0 && ny < h - 1 && nx < w - 1 && cells[c + step * 2] == MazeGrid.WALL) {
+                cells[c + step] = MazeGrid.FLOOR;
+                cells[c + step * 2] = MazeGrid.FLOOR;
+
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, top * 2);
+                    states = Arrays.copyOf(states, top * 2);
+                }
+                stack[top] = c + step * 2;
+                states[top] = shuffledDirections(r);
+                top++;
+            }
+        }
+    }
+
+    // {0,1,2,3}을 예전 shuffle과 같은 방식(i번째와 nextInt(4)번째 교환)으로 섞어서 2비트씩 묶음
+    private static int shuffledDirections(RandomGenerator r) {
+        int p = 0 | 1 << 2 | 2 << 4 | 3 << 6;
+        for (int i = 0; i < 4; i++) {
+            int j = r.nextInt(4);
+            int a = (p >>> (i * 2)) & 3;
+            int b = (p >>> (j * 2)) & 3;
+            p &= ~(3 << (i * 2)) & ~(3 << (j * 2));
+            p |= b << (i * 2) | a << (j * 2);
+        }
+        return p;
+    }
+}
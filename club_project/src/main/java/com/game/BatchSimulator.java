@@ -0,0 +1,193 @@
+package com.game;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 헤드리스 일괄 시뮬레이터: 시드를 바꿔가며 판을 여러 개 동시에 돌리고 결과를 모아서 출력
+// 플레이어는 탈출 경로를 따라가는 봇. Swing 없이 실제 시간보다 훨씬 빠르게 돎
+// 실행: java -cp target/classes com.game.BatchSimulator sessions=5000 threads=8 spawn=10 speed=0.042 items=8
+// 옵션: sessions, threads, size(미로 크기), seed(첫 시드), spawn(몬스터 등장 대기 초),
+//       speed(몬스터 틱당 이동 칸), items(아이템 수), limit(판당 최대 초),
+//       algo(미로 알고리즘 이름), spacing/startdist/bias(아이템 배치 조건, ItemPlacer), wander(경로 칸마다 봇이 몇 칸 되돌아갈 확률. 0이면 몬스터가 한 칸 뒤에서 따라오기만 해서 잡히지 않음)
+public class BatchSimulator {
+
+    static final int ESCAPED = 0;
+    static final int CAUGHT = 1;
+    static final int TIMEOUT = 2;
+
+    public static void main(String[] args) throws InterruptedException {
+        int sessions = CliArgs.intArg(args, "sessions", 2000);
+        int threads = CliArgs.intArg(args, "threads", Runtime.getRuntime().availableProcessors());
+        int size = CliArgs.intArg(args, "size", Game.MAZE_SIZE);
+        long seed = CliArgs.longArg(args, "seed", 1);
+        double spawn = CliArgs.doubleArg(args, "spawn", Monster.SPAWN_DELAY);
+        double speed = CliArgs.doubleArg(args, "speed", Monster.FOLLOW_SPEED);
+        int itemCount = CliArgs.intArg(args, "items", MazeGenerator.ITEM_COUNT);
+        int maxTicks = (int) (CliArgs.intArg(args, "limit", 300) / Simulation.DT);
+        double wander = CliArgs.doubleArg(args, "wander", 0.02);
+        MazeAlgorithm algorithm = MazeAlgorithm.byName(CliArgs.stringArg(args, "algo", "backtracker"));
+        ItemPlacer placer = new ItemPlacer(
+                CliArgs.doubleArg(args, "spacing", ItemPlacer.DEFAULT.minSpacing),
+                CliArgs.intArg(args, "startdist", ItemPlacer.DEFAULT.minStartDistance),
+                CliArgs.doubleArg(args, "bias", ItemPlacer.DEFAULT.progressBias));
+
+        int[] outcome = new int[sessions];
+        long[] ticks = new long[sessions];
+        long[] pathLength = new long[sessions];
+        int[] collected = new int[sessions];
+
+        // 판 번호를 하나씩 가져가며 처리. 결과는 판 번호 자리에 쓰므로 스레드 수와 무관하게 같은 결과
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            int i;
+            while ((i = next.getAndIncrement()) < sessions) {
+                Simulation sim = newSession(size, seed + i, itemCount, spawn, speed, algorithm, placer);
+                pathLength[i] = sim.escapePath.size() - 1;
+                ticks[i] = runSession(sim, new PathBot(sim.escapePath, wander, seed + i), maxTicks);
+                outcome[i] = sim.camera.escaped ? ESCAPED : sim.camera.gameOver ? CAUGHT : TIMEOUT;
+                for (Item it : sim.items) if (it.collected) collected[i]++;
+            }
+        };
+
+        long t0 = System.nanoTime();
+        Thread[] pool = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            pool[t] = new Thread(worker, "batch-" + t);
+            pool[t].start();
+        }
+        for (Thread t : pool) t.join();
+        long elapsed = System.nanoTime() - t0;
+
+        report(sessions, threads, size, algorithm, seed, spawn, speed, itemCount,
+                outcome, ticks, pathLength, collected, elapsed);
+    }
+
+    static Simulation newSession(int size, long seed, int itemCount, double spawn, double speed,
+                                 MazeAlgorithm algorithm, ItemPlacer placer) {
+        Simulation sim = new MazeGenerator(size, size, itemCount, algorithm, placer).generate(seed).newSimulation();
+
+        Monster monster = sim.camera.getMonster();
+        monster.spawnDelay = spawn;
+        monster.followSpeed = speed;
+        return sim;
+    }
+
+    // 끝나거나 maxTicks가 될 때까지 봇으로 돌리고 진행한 틱 수를 돌려줌
+    static long runSession(Simulation sim, PathBot bot, int maxTicks) {
+        while (!sim.isOver() && sim.tick < maxTicks) {
+            bot.think(sim.camera);
+            sim.step(bot.flags, bot.rotation, false);
+        }
+        return sim.tick;
+    }
+
+    // 탈출 경로의 칸 중심을 차례로 향해 걸음. 몬스터가 나오면 스태미나가 있는 동안 달림
+    // 사람처럼 가끔 몇 칸 되돌아감 (wander 확률, 시드로 정해짐)
+    static class PathBot {
+        private static final double REACHED = 0.2;
+        private static final double SPRINT_MIN_STAMINA = 35.0;
+
+        private final List<Point> path;
+        private final double wander;
+        private final Random random;
+        private int index = 1;
+        private int backtrack = 0;  // 앞으로 더 되돌아갈 칸 수
+
+        int flags;
+        double rotation;
+
+        PathBot(List<Point> path, double wander, long seed) {
+            this.path = path;
+            this.wander = wander;
+            this.random = new Random(seed);
+        }
+
+        void think(Camera cam) {
+            flags = 0;
+            rotation = 0;
+
+            while (index < path.size()) {
+                Point p = path.get(index);
+                if (Math.hypot(p.x + 0.5 - cam.x, p.y + 0.5 - cam.y) > REACHED) break;
+                advance();
+            }
+            if (index >= path.size()) return;
+
+            Point p = path.get(index);
+            double want = Math.atan2(p.y + 0.5 - cam.y, p.x + 0.5 - cam.x);
+            rotation = Math.IEEEremainder(want - cam.rot, Math.PI * 2);
+
+            flags = Input.FORWARD;
+            Monster mon = cam.getMonster();
+            if (mon != null && mon.spawned && cam.stamina > SPRINT_MIN_STAMINA) flags |= Input.SPRINT;
+        }
+
+        // 목표 칸에 닿았을 때 다음 목표를 정함
+        private void advance() {
+            if (backtrack > 0) {
+                backtrack--;
+                index = backtrack > 0 ? Math.max(0, index - 1) : index + 1;
+            } else if (random.nextDouble() < wander) {
+                backtrack = 2 + random.nextInt(4);
+                index = Math.max(0, index - 1);
+            } else {
+                index++;
+            }
+        }
+    }
+
+    private static void report(int sessions, int threads, int size, MazeAlgorithm algorithm,
+                               long seed, double spawn, double speed,
+                               int itemCount, int[] outcome, long[] ticks, long[] pathLength,
+                               int[] collected, long elapsed) {
+        int[] count = new int[3];
+        long totalTicks = 0, totalCollected = 0;
+        for (int i = 0; i < sessions; i++) {
+            count[outcome[i]]++;
+            totalTicks += ticks[i];
+            totalCollected += collected[i];
+        }
+
+        System.out.printf("maze %dx%d %s, seeds %d..%d, spawn=%.2fs, speed=%.4f, items=%d, threads=%d%n",
+                size, size, algorithm.name(), seed, seed + sessions - 1, spawn, speed, itemCount, threads);
+        System.out.printf("탈출 %.1f%% (%d), 잡힘 %.1f%% (%d), 시간 초과 %.1f%% (%d)%n",
+                100.0 * count[ESCAPED] / sessions, count[ESCAPED],
+                100.0 * count[CAUGHT] / sessions, count[CAUGHT],
+                100.0 * count[TIMEOUT] / sessions, count[TIMEOUT]);
+
+        reportSeconds("탈출 시간", select(ticks, outcome, ESCAPED));
+        reportSeconds("잡힐 때까지", select(ticks, outcome, CAUGHT));
+
+        long[] sortedPath = pathLength.clone();
+        Arrays.sort(sortedPath);
+        System.out.printf("탈출 경로 길이: 평균 %.1f칸, p50 %.0f, 최소 %d, 최대 %d%n",
+                (double) Arrays.stream(pathLength).sum() / sessions,
+                RenderBenchmark.percentile(sortedPath, 0.5), sortedPath[0], sortedPath[sessions - 1]);
+        System.out.printf("먹은 아이템: 평균 %.2f개%n", (double) totalCollected / sessions);
+
+        System.out.printf("%d판, %d틱, %.2f초, %.0f ticks/s (실시간의 %.0f배)%n",
+                sessions, totalTicks, elapsed / 1e9, totalTicks / (elapsed / 1e9),
+                totalTicks / (elapsed / 1e9) * Simulation.DT);
+    }
+
+    private static long[] select(long[] values, int[] outcome, int which) {
+        return java.util.stream.IntStream.range(0, values.length)
+                .filter(i -> outcome[i] == which).mapToLong(i -> values[i]).sorted().toArray();
+    }
+
+    private static void reportSeconds(String name, long[] sortedTicks) {
+        if (sortedTicks.length == 0) {
+            System.out.printf("%s: 없음%n", name);
+            return;
+        }
+        System.out.printf("%s: 평균 %.1f초, p50 %.1f, p90 %.1f, 최소 %.1f, 최대 %.1f%n", name,
+                Arrays.stream(sortedTicks).average().orElse(0) * Simulation.DT,
+                RenderBenchmark.percentile(sortedTicks, 0.5) * Simulation.DT,
+                RenderBenchmark.percentile(sortedTicks, 0.9) * Simulation.DT,
+                sortedTicks[0] * Simulation.DT,
+                sortedTicks[sortedTicks.length - 1] * Simulation.DT);
+    }
+}
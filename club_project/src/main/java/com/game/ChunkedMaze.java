@@ -0,0 +1,197 @@
+package com.game;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 무한 모드 월드: SIZE x SIZE 칸 조각들로 나뉜 끝없는 미로.
+// 조각 내용은 (월드 시드, 조각 좌표)만으로 정해지므로 언제 어느 스레드가 만들어도 같음.
+// 카메라 주변 조각은 백그라운드 스레드가 미리 만들고, 최근에 안 쓴 조각은 LRU로 버림
+public class ChunkedMaze implements MazeMap {
+
+    public static final int SIZE = 32;  // 짝수여야 방(홀수 좌표)이 조각마다 같은 자리에 옴
+    private static final int SHIFT = Integer.numberOfTrailingZeros(SIZE);
+
+    // 시작 위치. 음수 좌표는 (int) 변환이 0 쪽으로 잘려서 칸이 어긋나므로 양수 쪽 멀리서 시작
+    public static final double START = (1 << 24) + 1.5;
+
+    // around로 한 번에 읽는 기본 창(FlowField의 가장 작은 창)이 걸치는 조각 수 (한 변)와 그 창의 칸 수.
+    // (n - 1) * SIZE + 1칸 창은 어디에 놓여도 n 조각 안에 듦
+    static final int WINDOW_CHUNKS = 9;
+    static final int WINDOW = (WINDOW_CHUNKS - 1) * SIZE + 1;
+
+    // 메모리에 둘 조각 수 (조각당 1KB). 기본 창의 두 배라서 around가 창을 훑는 동안 앞에서 읽은 조각이
+    // 밀려나지 않음 (나머지 절반은 화면 창, 미리 만들기 몫). 더 큰 창을 쓰는 동안은 reserve로 늘림
+    static final int CAPACITY = 2 * WINDOW_CHUNKS * WINDOW_CHUNKS;
+    private static final int PREFETCH_RADIUS = 2;  // 카메라 조각에서 몇 조각 앞까지 미리 만들지
+
+    private final long seed;
+    private int capacity = CAPACITY;  // this로 잠가서 읽고 씀
+
+    // 접근 순서 LinkedHashMap = LRU. 렌더/시뮬레이션/로더 스레드가 같이 쓰므로 this로 잠금
+    private final LinkedHashMap<Long, byte[]> chunks = new LinkedHashMap<>(CAPACITY * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, byte[]> eldest) {
+            return size() > capacity;
+        }
+    };
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "chunk-loader");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private int lastPrefetchX = Integer.MIN_VALUE, lastPrefetchY = Integer.MIN_VALUE;
+
+    public ChunkedMaze(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public byte get(int x, int y) {
+        byte[] chunk = chunk(x >> SHIFT, y >> SHIFT);
+        return chunk[(y & (SIZE - 1)) * SIZE + (x & (SIZE - 1))];
+    }
+
+    // window를 (x, y) 가운데로 옮기고 조각에서 행 단위로 복사
+    @Override
+    public MazeGrid around(int x, int y, MazeGrid window) {
+        int x0 = x - window.width / 2;
+        int y0 = y - window.height / 2;
+        window.originX = x0;
+        window.originY = y0;
+
+        int x1 = x0 + window.width;
+        int y1 = y0 + window.height;
+        for (int cy = y0 >> SHIFT; cy <= (y1 - 1) >> SHIFT; cy++) {
+            for (int cx = x0 >> SHIFT; cx <= (x1 - 1) >> SHIFT; cx++) {
+                byte[] chunk = chunk(cx, cy);
+                int fromX = Math.max(x0, cx << SHIFT), toX = Math.min(x1, (cx + 1) << SHIFT);
+                int fromY = Math.max(y0, cy << SHIFT), toY = Math.min(y1, (cy + 1) << SHIFT);
+                for (int wy = fromY; wy < toY; wy++) {
+                    System.arraycopy(chunk, (wy & (SIZE - 1)) * SIZE + (fromX & (SIZE - 1)),
+                            window.cells, window.index(fromX, wy), toX - fromX);
+                }
+            }
+        }
+        return window;
+    }
+
+    // (x, y) 근처 조각을 백그라운드로 미리 만듦. 카메라가 다른 조각으로 넘어갈 때만 일함
+    public void prefetch(double x, double y) {
+        int ccx = (int) Math.floor(x) >> SHIFT;
+        int ccy = (int) Math.floor(y) >> SHIFT;
+        if (ccx == lastPrefetchX && ccy == lastPrefetchY) return;
+        lastPrefetchX = ccx;
+        lastPrefetchY = ccy;
+
+        for (int cy = ccy - PREFETCH_RADIUS; cy <= ccy + PREFETCH_RADIUS; cy++) {
+            for (int cx = ccx - PREFETCH_RADIUS; cx <= ccx + PREFETCH_RADIUS; cx++) {
+                long key = key(cx, cy);
+                if (isLoaded(key) || !pending.add(key)) continue;
+                int fx = cx, fy = cy;
+                loader.execute(() -> {
+                    store(key, generate(fx, fy));
+                    pending.remove(key);
+                });
+            }
+        }
+    }
+
+    // 시작 상태 (Maze.newSimulation과 같은 역할). 아이템과 출구 없이 조각 미로만
+    public Simulation newSimulation() {
+        Camera camera = new Camera(START, START, 0);
+        camera.setMonster(new Monster(START, START));
+        return new Simulation(this, List.of(), List.of(), camera);
+    }
+
+    // 한 변이 cells칸인 창을 around로 채울 때 걸칠 수 있는 조각 수 (창이 어디에 놓여도 이보다 많지 않음)
+    static int chunksCovering(int cells) {
+        int side = (cells - 1 + SIZE - 1) / SIZE + 1;
+        return side * side;
+    }
+
+    // 한 변이 cells칸인 창을 around로 읽을 수 있게 캐시 크기를 맞춤 (창의 두 배, CAPACITY보다 작게는 안 함).
+    // 줄일 때는 다음에 조각을 넣을 때마다 오래된 조각이 하나씩 빠짐
+    public synchronized void reserve(int cells) {
+        capacity = Math.max(CAPACITY, 2 * chunksCovering(cells));
+    }
+
+    public synchronized int loadedChunks() {
+        return chunks.size();
+    }
+
+    public void shutdown() {
+        loader.shutdownNow();
+    }
+
+    // 없으면 지금 스레드에서 만듦 (내용이 좌표로 정해지므로 로더와 겹쳐도 결과가 같음)
+    private byte[] chunk(int cx, int cy) {
+        long key = key(cx, cy);
+        byte[] chunk;
+        synchronized (this) {
+            chunk = chunks.get(key);
+        }
+        if (chunk == null) {
+            chunk = generate(cx, cy);
+            store(key, chunk);
+        }
+        return chunk;
+    }
+
+    private synchronized boolean isLoaded(long key) {
+        return chunks.containsKey(key);
+    }
+
+    private synchronized void store(long key, byte[] chunk) {
+        chunks.putIfAbsent(key, chunk);
+    }
+
+    // 조각 내부는 (SIZE + 1)칸 격자에 완전 미로를 파서 왼쪽 위 SIZE x SIZE만 씀.
+    // 왼쪽 열과 위쪽 행(이웃 조각과의 경계 벽)은 이 조각 몫이고, 경계마다 문을 1~2개 뚫음.
+    // 문 위치는 경계 좌표의 해시로 정하므로 이웃 조각이 먼저 만들어져도 서로 어긋나지 않음
+    private byte[] generate(int cx, int cy) {
+        MazeGrid m = new MazeGrid(SIZE + 1, SIZE + 1);
+        MazeAlgorithm.BACKTRACKER.carve(m, new Random(hash(cx, cy, 0)));
+
+        byte[] chunk = new byte[SIZE * SIZE];
+        for (int y = 0; y < SIZE; y++) {
+            System.arraycopy(m.cells, m.index(0, y), chunk, y * SIZE, SIZE);
+        }
+
+        openDoors(chunk, hash(cx, cy, 1), SIZE);  // 왼쪽 경계 (x = 0, 홀수 y)
+        openDoors(chunk, hash(cx, cy, 2), 1);     // 위쪽 경계 (y = 0, 홀수 x)
+        return chunk;
+    }
+
+    // step: 경계를 따라 한 칸 갈 때 배열 위치 변화량
+    private static void openDoors(byte[] chunk, long h, int step) {
+        int doors = 1 + (int) (h & 1);
+        for (int i = 0; i < doors; i++) {
+            h = mix(h);
+            int room = (int) Math.floorMod(h, (long) (SIZE / 2));
+            chunk[(room * 2 + 1) * step] = MazeGrid.FLOOR;
+        }
+    }
+
+    private long hash(int cx, int cy, int salt) {
+        return mix(mix(mix(seed ^ salt) ^ cx) ^ ((long) cy << 32));
+    }
+
+    private static long mix(long h) {
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    private static long key(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,42 @@
+package com.game;
+
+// 헤드리스 도구(RenderBenchmark, BatchSimulator, MazeFile 등)의 key=value 인자 읽기.
+// 같은 key가 여러 번 있으면 처음 것, 없으면 기본값
+public final class CliArgs {
+
+    private CliArgs() {
+    }
+
+    static String stringArg(String[] args, String key, String def) {
+        for (String a : args) {
+            if (a.startsWith(key + "=")) return a.substring(key.length() + 1);
+        }
+        return def;
+    }
+
+    static int intArg(String[] args, String key, int def) {
+        String v = stringArg(args, key, null);
+        return v == null ? def : Integer.parseInt(v);
+    }
+
+    // 시드처럼 64비트 전체를 쓰는 값
+    static long longArg(String[] args, String key, long def) {
+        String v = stringArg(args, key, null);
+        return v == null ? def : Long.parseLong(v);
+    }
+
+    static double doubleArg(String[] args, String key, double def) {
+        String v = stringArg(args, key, null);
+        return v == null ? def : Double.parseDouble(v);
+    }
+
+    // 쉼표로 나눈 정수 목록 (sizes=41,1001)
+    static int[] intListArg(String[] args, String key, int[] def) {
+        String v = stringArg(args, key, null);
+        if (v == null) return def;
+        String[] parts = v.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) values[i] = Integer.parseInt(parts[i].trim());
+        return values;
+    }
+}
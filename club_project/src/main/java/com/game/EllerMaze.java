@@ -0,0 +1,115 @@
+package com.game;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+// Eller: 위에서 아래로 한 행씩 만들며 현재 행의 집합 번호만 기억함 (메모리 O(너비)).
+// 높이에 제한이 없어서 전체 격자를 들고 있지 않고 행을 흘려보낼 수 있음
+public class EllerMaze implements MazeAlgorithm {
+
+    // 격자 한 행(너비 = 격자 너비, 벽/통로 바이트)을 받음. 배열은 재사용되므로 필요하면 복사해야 함
+    public interface RowSink {
+        // false를 돌려주면 거기서 멈춤
+        boolean row(long y, byte[] cells);
+    }
+
+    @Override
+    public String name() {
+        return "eller";
+    }
+
+    @Override
+    public void carve(MazeGrid m, RandomGenerator r) {
+        stream(m.width, m.height, r, (y, cells) -> {
+            System.arraycopy(cells, 0, m.cells, m.index(0, (int) y), m.width);
+            return true;
+        });
+    }
+
+    // width x height 격자의 행을 차례로 sink에 넘김. height <= 0이면 sink가 멈출 때까지 끝없이 만듦
+    // (끝없는 경우 마지막 행에서 남은 집합을 잇는 단계가 없으므로, 지금까지 나온 부분만으로는 연결이 보장되지 않음)
+    public void stream(int width, long height, RandomGenerator r, RowSink sink) {
+        int cols = (width - 1) / 2;
+        long rows = height > 0 ? (height - 1) / 2 : Long.MAX_VALUE;
+
+        byte[] cellRow = new byte[width];
+        byte[] wallRow = new byte[width];
+
+        // set[c]: c번째 칸의 집합 번호 (0 ~ 2 * cols - 1 안에서 다시 매김), -1 = 새 칸
+        int[] set = new int[cols];
+        int[] parent = new int[cols * 2];
+        int[] remap = new int[cols * 2];
+        boolean[] hasDown = new boolean[cols * 2];
+        int[] lastCol = new int[cols * 2];
+        boolean[] down = new boolean[cols];
+        Arrays.fill(set, -1);
+
+        Arrays.fill(wallRow, MazeGrid.WALL);
+        if (!sink.row(0, wallRow)) return;
+
+        for (long row = 0; row < rows; row++) {
+            boolean last = row == rows - 1;
+
+            // 집합이 없는 칸에 새 번호 (위에서 이어진 칸은 0 ~ k-1, 새 칸은 그 뒤)
+            int next = 0;
+            for (int c = 0; c < cols; c++) next = Math.max(next, set[c] + 1);
+            for (int c = 0; c < cols; c++) {
+                if (set[c] < 0) set[c] = next++;
+            }
+            for (int i = 0; i < next; i++) parent[i] = i;
+
+            // 가로로 이웃한 다른 집합을 무작위로 합침 (마지막 행은 전부 합침)
+            Arrays.fill(cellRow, MazeGrid.WALL);
+            for (int c = 0; c < cols; c++) {
+                cellRow[c * 2 + 1] = MazeGrid.FLOOR;
+                if (c + 1 == cols) break;
+                int a = find(parent, set[c]);
+                int b = find(parent, set[c + 1]);
+                if (a != b && (last || r.nextBoolean())) {
+                    parent[b] = a;
+                    cellRow[c * 2 + 2] = MazeGrid.FLOOR;
+                }
+            }
+            for (int c = 0; c < cols; c++) set[c] = find(parent, set[c]);
+            if (!sink.row(row * 2 + 1, cellRow)) return;
+
+            Arrays.fill(wallRow, MazeGrid.WALL);
+            if (last) break;
+
+            // 아래로 뚫기: 무작위로 고르고, 한 칸도 안 뚫린 집합은 마지막 칸을 뚫음
+            for (int i = 0; i < next; i++) hasDown[i] = false;
+            for (int c = 0; c < cols; c++) {
+                down[c] = r.nextBoolean();
+                if (down[c]) hasDown[set[c]] = true;
+                lastCol[set[c]] = c;
+            }
+            for (int c = 0; c < cols; c++) {
+                if (!hasDown[set[c]] && lastCol[set[c]] == c) down[c] = true;
+            }
+
+            // 다음 행 집합 번호: 아래로 이어진 칸만 물려받고 0부터 다시 매김
+            for (int i = 0; i < next; i++) remap[i] = -1;
+            int k = 0;
+            for (int c = 0; c < cols; c++) {
+                if (down[c]) {
+                    wallRow[c * 2 + 1] = MazeGrid.FLOOR;
+                    if (remap[set[c]] < 0) remap[set[c]] = k++;
+                    set[c] = remap[set[c]];
+                } else {
+                    set[c] = -1;
+                }
+            }
+            if (!sink.row(row * 2 + 2, wallRow)) return;
+        }
+
+        sink.row(rows * 2, wallRow);
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+}
@@ -0,0 +1,139 @@
+package com.game;
+
+import java.util.Arrays;
+
+// 플레이어 칸까지의 걸음 수 표 (flow field). 몬스터는 자기 칸의 이웃 중 값이 하나 작은 칸으로 가면 됨.
+// 플레이어가 다른 칸으로 넘어갈 때만 다시 만들고, 그 사이에는 몬스터들이 표를 O(1)로 읽기만 함.
+// 표는 플레이어를 가운데 둔 정사각형 창 안에서만 BFS로 채움 (버퍼도 창 크기만큼).
+// 창은 MIN_RADIUS부터 시작해서 몬스터가 표 밖에 있으면 MAX_RADIUS까지 두 배씩 키우고,
+// 몬스터가 다시 가까워지면 줄임. 미로 전체가 창 안에 들어가면 복사하지 않고 미로를 그대로 씀
+//
+// 고쳐 쓰지 않고 매번 새로 만드는 이유: 미로는 격자(이분 그래프)의 일부라서, 뿌리가 이웃 칸으로
+// 옮겨지면 닿는 모든 칸의 거리가 정확히 1씩 바뀜 (두 거리는 홀짝이 다르고 차이는 1 이하).
+// 문 때문에 고리가 있는 무한 모드도 마찬가지여서, 점진적으로 고쳐도 BFS와 같은 칸을 전부 건드림.
+// 창도 플레이어를 따라 옮겨지므로 칸 번호까지 다 바뀜
+public class FlowField {
+
+    // 가장 작은 창은 무한 모드 조각 캐시가 기본으로 담는 창 (257칸)
+    public static final int MIN_RADIUS = ChunkedMaze.WINDOW / 2;
+    // 가장 큰 창 (1025칸, 버퍼 약 8MB). 이 창에도 안 들어오는 몬스터는 Monster가 놓친 것으로 처리
+    public static final int MAX_RADIUS = MIN_RADIUS * 4;
+
+    // step()이 돌려주는 방향 (오른쪽, 왼쪽, 아래, 위)
+    public static final int[] DX = {1, -1, 0, 0};
+    public static final int[] DY = {0, 0, 1, -1};
+
+    private int radius = MIN_RADIUS;
+    private MazeGrid grid;    // 표가 가리키는 격자 (창, 또는 창 안에 다 들어가는 MazeGrid 자체)
+    private MazeGrid window;  // 지금 radius 크기의 창
+
+    // dist[c] - base가 걸음 수, base보다 작으면 표에 없는 칸. 다시 만들 때마다 base를 지난번
+    // 가장 먼 값 뒤로 옮기므로 배열을 지우지 않음
+    private int[] dist, queue;
+    private int base = 0, nextBase = 1;
+    private final int[] neighbors = new int[4];
+
+    private MazeMap rootMap;
+    private int rootX = Integer.MIN_VALUE, rootY = Integer.MIN_VALUE;
+
+    // 플레이어 칸이 바뀌었거나 (mx, my)의 몬스터가 표 밖이면 다시 만들고 true.
+    // 몬스터가 표 밖이면 닿을 때까지 창을 키움. MAX_RADIUS 창에도 없으면 distance가 -1 그대로
+    public boolean update(MazeMap map, double px, double py, double mx, double my) {
+        int x = (int) px, y = (int) py;
+        int tx = (int) mx, ty = (int) my;
+        boolean moved = map != rootMap || x != rootX || y != rootY;
+        if (!moved && (distance(tx, ty) >= 0 || !canGrow())) return false;
+
+        if (moved) {
+            rootMap = map;
+            rootX = x;
+            rootY = y;
+            // 몬스터가 반 크기 창의 안쪽 절반까지 들어왔으면 줄임
+            int far = Math.max(Math.abs(tx - x), Math.abs(ty - y));
+            while (radius > MIN_RADIUS && far < radius / 4) radius /= 2;
+            rebuild(map, x, y);
+        }
+        while (distance(tx, ty) < 0 && canGrow()) {
+            radius *= 2;
+            rebuild(map, x, y);
+        }
+        return true;
+    }
+
+    // 창을 더 키우면 표가 넓어지는지 (미로 전체를 이미 쓰고 있으면 아님)
+    private boolean canGrow() {
+        return radius < MAX_RADIUS && grid != rootMap;
+    }
+
+    // (x, y)에서 플레이어까지 걸음 수. 표에 없으면 -1
+    public int distance(int x, int y) {
+        if (grid == null || !grid.inside(x, y)) return -1;
+        int d = dist[grid.index(x, y)] - base;
+        return d >= 0 ? d : -1;
+    }
+
+    // (x, y)에서 플레이어 쪽으로 한 칸 가는 방향 (DX/DY 번호). 플레이어 칸이거나 표에 없으면 -1
+    public int step(int x, int y) {
+        if (distance(x, y) <= 0) return -1;
+        int c = grid.index(x, y);
+        int want = dist[c] - 1;  // base 이상이므로 지난 표의 값과 겹치지 않음
+        for (int i = 0; i < 4; i++) {
+            if (dist[c + neighbors[i]] == want) return i;
+        }
+        return -1;
+    }
+
+    // 플레이어 칸에서 창 안의 닿는 칸 전부 BFS. 버퍼는 창 크기가 바뀔 때만 새로 만듦
+    // 둘레가 벽으로 덧대져 있어서 이웃 칸 범위 검사가 없음
+    private void rebuild(MazeMap map, int x, int y) {
+        int side = 2 * radius + 1;
+        if (map instanceof MazeGrid full && full.width - 1 <= radius && full.height - 1 <= radius) {
+            grid = full;  // 플레이어가 어디에 있어도 창이 미로 전체를 덮음
+        } else {
+            if (window == null || window.width != side) window = new MazeGrid(side, side);
+            if (map instanceof MazeGrid full) {
+                grid = full.copyAround(x, y, window);
+            } else {
+                if (map instanceof ChunkedMaze world) world.reserve(side);
+                grid = map.around(x, y, window);
+            }
+        }
+
+        byte[] cells = grid.cells;
+        if (dist == null || dist.length != cells.length) {
+            dist = new int[cells.length];
+            queue = new int[cells.length];
+            nextBase = 1;
+        } else if (nextBase > Integer.MAX_VALUE - cells.length) {
+            Arrays.fill(dist, 0);
+            nextBase = 1;
+        }
+        base = nextBase;  // 아래에서 일찍 끝나도 지난 표의 값은 전부 base보다 작음
+        neighbors[0] = 1;
+        neighbors[1] = -1;
+        neighbors[2] = grid.stride;
+        neighbors[3] = -grid.stride;
+
+        if (!grid.inside(x, y)) return;
+        int root = grid.index(x, y);
+        if (cells[root] == MazeGrid.WALL) return;
+
+        int stamp = base;
+        int head = 0, tail = 0;
+        queue[tail++] = root;
+        dist[root] = stamp;
+
+        while (head < tail) {
+            int c = queue[head++];
+            int d = dist[c] + 1;
+            for (int i = 0; i < 4; i++) {
+                int n = c + neighbors[i];
+                if (dist[n] < stamp && cells[n] != MazeGrid.WALL) {
+                    dist[n] = d;
+                    queue[tail++] = n;
+                }
+            }
+        }
+        nextBase = dist[queue[tail - 1]] + 1;  // BFS 순서라 마지막 칸이 가장 멂
+    }
+}
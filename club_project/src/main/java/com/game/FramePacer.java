@@ -0,0 +1,83 @@
+package com.game;
+
+import java.awt.DisplayMode;
+import java.awt.GraphicsEnvironment;
+import java.util.concurrent.locks.LockSupport;
+
+// 렌더 프레임 속도 제한: 목표 시각 직전까지 park로 쉬고 마지막 짧은 구간만 spin
+public class FramePacer {
+
+    public static final int UNCAPPED = 0;
+    public static final int VSYNC = -1;       // 모니터 주사율에 맞춤
+
+    public static final int BACKGROUND_FPS = 10;  // 최소화되었거나 포커스를 잃었을 때
+
+    // park는 깨어나는 시각이 조금 늦을 수 있으므로 마지막 이만큼은 spin으로 기다림
+    private static final long SPIN_NANOS = 1_000_000;
+
+    private long intervalNanos;
+    private volatile boolean background = false;
+    private long nextFrame = System.nanoTime();
+
+    public FramePacer(int targetFps) {
+        setTargetFps(targetFps);
+    }
+
+    // 시스템 속성 miro.fps: 숫자, "uncapped", "vsync" (기본값)
+    public static int targetFromProperty() {
+        String v = System.getProperty("miro.fps", "vsync");
+        if (v.equalsIgnoreCase("vsync")) return VSYNC;
+        if (v.equalsIgnoreCase("uncapped")) return UNCAPPED;
+        try {
+            return Math.max(UNCAPPED, Integer.parseInt(v));
+        } catch (NumberFormatException e) {
+            return VSYNC;
+        }
+    }
+
+    public void setTargetFps(int fps) {
+        if (fps == VSYNC) fps = displayRefreshRate();
+        intervalNanos = fps <= 0 ? 0 : 1_000_000_000L / fps;
+    }
+
+    // 설정된 목표 프레임 간격 (제한 없음이면 0). 배경 상태의 느린 간격은 포함하지 않음
+    public long frameNanos() {
+        return intervalNanos;
+    }
+
+    // 창이 최소화되었거나 포커스가 없으면 true
+    public void setBackground(boolean background) {
+        this.background = background;
+    }
+
+    // 다음 프레임을 시작할 시각까지 기다림
+    public void waitForNextFrame() {
+        long interval = background ? 1_000_000_000L / BACKGROUND_FPS : intervalNanos;
+        if (interval == 0) return;
+
+        nextFrame += interval;
+        long now = System.nanoTime();
+
+        // 한참 늦었으면 밀린 프레임을 몰아서 그리지 않고 지금부터 다시 셈
+        if (now - nextFrame > interval) {
+            nextFrame = now;
+            return;
+        }
+
+        long remaining = nextFrame - now;
+        if (remaining > SPIN_NANOS) {
+            LockSupport.parkNanos(remaining - SPIN_NANOS);
+        }
+        while (System.nanoTime() - nextFrame < 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static int displayRefreshRate() {
+        if (GraphicsEnvironment.isHeadless()) return 60;
+        DisplayMode mode = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice().getDisplayMode();
+        int rate = mode.getRefreshRate();
+        return rate == DisplayMode.REFRESH_RATE_UNKNOWN ? 60 : rate;
+    }
+}
@@ -1,305 +1,440 @@
-package com.game;
-
-import javax.swing.*;
-import java.awt.*;
-import java.awt.event.*;
-import java.awt.image.BufferStrategy;
-import java.awt.image.BufferedImage;
-import java.text.DecimalFormat;
-import java.util.*;
-import java.util.List;
-
-public class Game extends JFrame implements Runnable {
-
-    public static final int WIDTH = 1200;
-    public static final int HEIGHT = 720;
-
-    public static final ArrayList<Double> RECORDS = new ArrayList<>();
-    private static final int MAX_RECORDS = 5;
-
-    private Canvas canvas;
-    private boolean running = false;
-    private Thread thread;
-
-    private Screen screen;
-    private Camera camera;
-    private Input input;
-
-    private int[][] MAP;
-    private List<Point> escapePath;
-    private List<Item> items;
-
-    private long startTime;
-    private double elapsedTime;
-
-    private boolean shiftLock = false;
-    private Robot robot;
-    private Cursor blankCursor;
-
-    private boolean showPath = false;  // 플레이어에게만 경로 표시 토글
-
-    public Game() {
-        setTitle("미로 탈출");
-        setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
-        setSize(WIDTH, HEIGHT);
-        setLocationRelativeTo(null);
-        setResizable(false);
-
-        canvas = new Canvas();
-        canvas.setPreferredSize(new Dimension(WIDTH, HEIGHT));
-        canvas.setBackground(Color.BLACK);
-
-        add(canvas);
-        pack();
-        setVisible(true);
-
-        canvas.createBufferStrategy(3);
-
-        BufferedImage cursorImg = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
-        blankCursor = Toolkit.getDefaultToolkit().createCustomCursor(cursorImg, new Point(0, 0), "blank");
-
-        try {
-            robot = new Robot();
-        } catch (Exception e) {
-            System.err.println("Robot 초기화 실패: " + e.getMessage());
-        }
-
-        input = new Input();
-        canvas.addKeyListener(input);
-
-        canvas.addMouseMotionListener(new MouseMotionAdapter() {
-            @Override
-            public void mouseMoved(MouseEvent e) {
-                mouseMoveHandler(e);
-            }
-
-            @Override
-            public void mouseDragged(MouseEvent e) {
-                mouseMoveHandler(e);
-            }
-        });
-
-        canvas.requestFocusInWindow();
-
-        MAP = MazeGenerator.generate(41, 41);
-        escapePath = MazeGenerator.getEscapePath();
-        items = MazeGenerator.getItems();
-
-        camera = new Camera(1.5, 1.5, 0);
-        Monster monster = MazeGenerator.getMonster();
-        camera.setMonster(monster);
-
-        screen = new Screen(WIDTH, HEIGHT, MAP, items);
-
-        startTime = System.nanoTime();
-        elapsedTime = 0;
-
-        running = true;
-        thread = new Thread(this);
-        thread.start();
-    }
-
-    private void mouseMoveHandler(MouseEvent e) {
-        double sensitivity = 0.002;
-
-        if (shiftLock) {
-            int centerX = WIDTH / 2;
-            int dx = e.getX() - centerX;
-            camera.rotate(dx * sensitivity);
-            centerMouse();
-        }
-    }
-
-    private void centerMouse() {
-        if (robot != null) {
-            Point loc = canvas.getLocationOnScreen();
-            robot.mouseMove(loc.x + WIDTH / 2, loc.y + HEIGHT / 2);
-        }
-    }
-
-    @Override
-    public void run() {
-        final double ns = 1_000_000_000.0 / 60.0;
-        long last = System.nanoTime();
-        double delta = 0;
-
-        while (running) {
-            long now = System.nanoTime();
-            delta += (now - last) / ns;
-            last = now;
-
-            while (delta >= 1) {
-                elapsedTime = (System.nanoTime() - startTime) / 1_000_000_000.0;
-
-                double dt = 1.0 / 60.0;
-
-                // 몬스터는 항상 escapePath를 따라감, showPath는 플레이어 시야만
-                camera.update(input, MAP, dt, escapePath, showPath);
-                camera.collectItems(items);
-
-                if (input.toggleShiftLock) {
-                    shiftLock = !shiftLock;
-                    input.toggleShiftLock = false;
-                    if (shiftLock) {
-                        centerMouse();
-                        canvas.setCursor(blankCursor);
-                    } else {
-                        canvas.setCursor(Cursor.getDefaultCursor());
-                    }
-                }
-
-                if (input.togglePath) {
-                    showPath = !showPath;
-                    input.togglePath = false;
-                }
-
-                if (camera.escaped) {
-                    double time = elapsedTime;
-                    RECORDS.add(time);
-                    RECORDS.sort(Double::compareTo);
-                    if (RECORDS.size() > MAX_RECORDS) RECORDS.remove(MAX_RECORDS);
-
-                    DecimalFormat df = new DecimalFormat("0.00");
-                    JOptionPane.showMessageDialog(this,
-                            "탈출 성공!\n소요 시간: " + df.format(time) + "초",
-                            "축하합니다!",
-                            JOptionPane.INFORMATION_MESSAGE);
-
-                    running = false;
-                } else if (camera.gameOver) {
-                    JOptionPane.showMessageDialog(this,
-                            "몬스터에게 잡혔습니다!\n게임 오버",
-                            "Game Over",
-                            JOptionPane.ERROR_MESSAGE);
-
-                    running = false;
-                }
-
-                delta--;
-            }
-
-            render();
-            Toolkit.getDefaultToolkit().sync();
-        }
-
-        dispose();
-        SwingUtilities.invokeLater(() -> new MainMenu());
-    }
-
-    private void render() {
-        BufferStrategy bs = canvas.getBufferStrategy();
-        if (bs == null) return;
-
-        Graphics g = bs.getDrawGraphics();
-
-        g.setColor(Color.BLACK);
-        g.fillRect(0, 0, WIDTH, HEIGHT);
-
-        screen.render(camera);
-        g.drawImage(screen.getImage(), 0, 0, null);
-
-        drawMiniMap(g);
-        drawStamina(g);
-
-        g.setColor(Color.WHITE);
-        g.setFont(new Font("SansSerif", Font.BOLD, 20));
-        DecimalFormat df = new DecimalFormat("0.00");
-        g.drawString("시간: " + df.format(elapsedTime) + "초", WIDTH - 200, HEIGHT - 30);
-
-        g.setFont(new Font("SansSerif", Font.BOLD, 18));
-        g.drawString(shiftLock ? "Shift Lock: ON (L 토글)" : "Shift Lock: OFF (L 토글)", 12, 30);
-
-        g.dispose();
-        bs.show();
-    }
-
-    private void drawMiniMap(Graphics g) {
-        int size = 180;
-        int cell = size / MAP.length;
-        int ox = WIDTH - size - 12;
-        int oy = 12;
-
-        g.setColor(new Color(0, 0, 0, 150));
-        g.fillRoundRect(ox - 6, oy - 6, size + 12, size + 12, 10, 10);
-
-        for (int y = 0; y < MAP.length; y++) {
-            for (int x = 0; x < MAP[0].length; x++) {
-                if (MAP[y][x] == 1) g.setColor(Color.DARK_GRAY);
-                else if (MAP[y][x] == 2) g.setColor(Color.GREEN);
-                else g.setColor(Color.LIGHT_GRAY);
-                g.fillRect(ox + x * cell, oy + y * cell, cell, cell);
-
-                if (MAP[y][x] == 2) {
-                    g.setColor(Color.YELLOW);
-                    g.drawRect(ox + x * cell, oy + y * cell, cell - 1, cell - 1);
-                }
-            }
-        }
-
-        for (Item it : items) {
-            if (it.collected) continue;
-            int ix = (int)(it.x * cell);
-            int iy = (int)(it.y * cell);
-            int color = switch (it.type) {
-                case STAMINA -> 0x66FF66;
-                case FREEZE -> 0xFFFF66;
-                case FLASHLIGHT -> 0x66AAFF;
-            };
-            g.setColor(new Color(color));
-            g.fillOval(ox + ix - 3, oy + iy - 3, 6, 6);
-        }
-
-        Monster mon = camera.getMonster();
-        if (mon != null && mon.spawned) {
-            int mx = (int)(mon.x * cell);
-            int my = (int)(mon.y * cell);
-            g.setColor(Color.RED);
-            g.drawLine(ox + mx - 5, oy + my - 5, ox + mx + 5, oy + my + 5);
-            g.drawLine(ox + mx + 5, oy + my - 5, ox + mx - 5, oy + my + 5);
-            g.setColor(Color.WHITE);
-            g.drawOval(ox + mx - 6, oy + my - 6, 12, 12);
-        }
-
-        // 플레이어에게만 showPath일 때 경로 표시
-        if (showPath && escapePath != null) {
-            g.setColor(new Color(255, 0, 0, 180));
-            for (int i = 0; i < escapePath.size() - 1; i++) {
-                Point a = escapePath.get(i);
-                Point b = escapePath.get(i + 1);
-                g.drawLine(ox + a.x * cell + cell/2, oy + a.y * cell + cell/2,
-                        ox + b.x * cell + cell/2, oy + b.y * cell + cell/2);
-            }
-        }
-
-        g.setColor(Color.RED);
-        g.fillOval(ox + (int)(camera.x * cell) - 4, oy + (int)(camera.y * cell) - 4, 8, 8);
-        g.setColor(Color.WHITE);
-        g.drawOval(ox + (int)(camera.x * cell) - 4, oy + (int)(camera.y * cell) - 4, 8, 8);
-    }
-
-    private void drawStamina(Graphics g) {
-        int barW = 220;
-        int barH = 20;
-        int x = WIDTH / 2 - barW / 2;
-        int y = HEIGHT - 40;
-
-        double ratio = camera.stamina / Camera.MAX_STAMINA;
-
-        g.setColor(new Color(0, 0, 0, 150));
-        g.fillRoundRect(x - 6, y - 6, barW + 12, barH + 32, 12, 12);
-
-        g.setColor(Color.DARK_GRAY);
-        g.fillRoundRect(x, y, barW, barH, 8, 8);
-
-        g.setColor(ratio > 0.3 ? new Color(90, 220, 90) : new Color(220, 80, 80));
-        g.fillRoundRect(x, y, (int)(barW * ratio), barH, 8, 8);
-
-        g.setColor(Color.WHITE);
-        g.drawRoundRect(x, y, barW, barH, 8, 8);
-
-        g.setFont(new Font("SansSerif", Font.BOLD, 16));
-        String text = String.format("Stamina: %.0f%%", camera.stamina);
-        FontMetrics fm = g.getFontMetrics();
-        g.drawString(text, x + barW / 2 - fm.stringWidth(text)/2, y + barH + 20);
-    }
-}
\ No newline at end of file
+package com.game;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.*;
+import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
+import java.text.DecimalFormat;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+public class Game extends JFrame implements Runnable {
+
+    public static final int WIDTH = 1200;  // 16의 배수 (ResolutionController.scaledWidth와 같은 정렬)
+    public static final int HEIGHT = 720;
+
+    public static final int MAZE_SIZE = 41;
+    public static final String REPLAY_FILE = "replays/last.replay";
+
+    // 이보다 큰 레벨 파일은 힙에 올리지 않고 매핑된 채로 플레이
+    private static final long LEVEL_IN_HEAP_CELLS = 1L << 20;
+
+    // 한 번에 따라잡을 최대 틱 수. 더 밀리면 그만큼의 시뮬레이션 시간은 버림
+    private static final int MAX_CATCH_UP_TICKS = 5;
+
+    public static final ArrayList<Double> RECORDS = new ArrayList<>();
+    private static final int MAX_RECORDS = 5;
+
+    private Canvas canvas;
+    private volatile boolean running = false;
+    private Thread thread;        // 시뮬레이션
+    private Thread renderThread;  // 렌더링
+
+    private Screen screen;
+    private final FramePacer pacer = new FramePacer(FramePacer.targetFromProperty());
+    private final ResolutionController resolution = new ResolutionController(pacer);
+    private final WorldSnapshot renderView;  // 틱 사이를 보간한 렌더용 스냅샷
+    private final PerfStats perf = new PerfStats();
+    private final PerfOverlay perfOverlay = new PerfOverlay(perf);
+    private boolean showPerf = false;  // 렌더 스레드만 읽고 씀
+    private int outWidth = WIDTH, outHeight = HEIGHT;
+    private MiniMap miniMap;
+    private Camera camera;
+    private Simulation simulation;
+    private SnapshotBuffer snapshots;
+    private Input input;
+
+    private final boolean endless;  // 무한 모드: 출구 없이 오래 버티기
+    private MazeMap MAP;
+    private List<Point> escapePath;
+    private List<Item> items;
+    private InputRecording recording;
+
+    private long startTime;
+    private double elapsedTime;
+
+    private volatile boolean shiftLock = false;
+    private Robot robot;
+    private Cursor blankCursor;
+
+    private boolean showPath = false;  // 플레이어에게만 경로 표시 토글
+
+    private final Hud hud = new Hud();
+
+    public Game() {
+        this(false);
+    }
+
+    public Game(boolean endless) {
+        this.endless = endless;
+        setTitle("미로 탈출");
+        setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
+        setSize(WIDTH, HEIGHT);
+        setLocationRelativeTo(null);
+        setResizable(true);
+
+        canvas = new Canvas();
+        canvas.setPreferredSize(new Dimension(WIDTH, HEIGHT));
+        canvas.setBackground(Color.BLACK);
+
+        add(canvas);
+        pack();
+        setVisible(true);
+
+        canvas.createBufferStrategy(3);
+
+        BufferedImage cursorImg = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+        blankCursor = Toolkit.getDefaultToolkit().createCustomCursor(cursorImg, new Point(0, 0), "blank");
+
+        try {
+            robot = new Robot();
+        } catch (Exception e) {
+            System.err.println("Robot 초기화 실패: " + e.getMessage());
+        }
+
+        input = new Input();
+        canvas.addKeyListener(input);
+
+        canvas.addMouseMotionListener(new MouseMotionAdapter() {
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                mouseMoveHandler(e);
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                mouseMoveHandler(e);
+            }
+        });
+
+        canvas.requestFocusInWindow();
+
+        // 최소화되었거나 포커스를 잃으면 낮은 프레임으로 그림
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowIconified(WindowEvent e) {
+                updateBackground();
+            }
+
+            @Override
+            public void windowDeiconified(WindowEvent e) {
+                updateBackground();
+            }
+        });
+        addWindowFocusListener(new WindowAdapter() {
+            @Override
+            public void windowGainedFocus(WindowEvent e) {
+                updateBackground();
+            }
+
+            @Override
+            public void windowLostFocus(WindowEvent e) {
+                updateBackground();
+            }
+        });
+
+        // 시드는 -Dmiro.seed, 알고리즘은 -Dmiro.maze로 고정할 수 있음. -Dmiro.level을 주면 미로 파일을 엶.
+        // 판마다 입력을 기록해서 끝나면 리플레이 파일로 저장 (레벨 파일은 리플레이로 다시 만들 수 없어서 제외)
+        long seed = Long.getLong("miro.seed", System.nanoTime());
+        String level = System.getProperty("miro.level");
+        if (endless) {
+            // 무한 모드는 조각 미로 (미니맵, 아이템, 출구 없음)
+            simulation = new ChunkedMaze(seed).newSimulation();
+            recording = new InputRecording(seed, 0, 0, MazeAlgorithm.BACKTRACKER);
+        } else if (level == null || !loadLevel(java.nio.file.Paths.get(level))) {
+            MazeAlgorithm algorithm = MazeAlgorithm.byName(System.getProperty("miro.maze", "backtracker"));
+            Maze maze = new MazeGenerator(MAZE_SIZE, MAZE_SIZE, MazeGenerator.ITEM_COUNT, algorithm).generate(seed);
+            recording = new InputRecording(seed, MAZE_SIZE, MAZE_SIZE, algorithm);
+
+            simulation = maze.newSimulation();
+            miniMap = new MiniMap(maze.grid, simulation.items, simulation.escapePath);
+        }
+        MAP = simulation.map;
+        escapePath = simulation.escapePath;
+        items = simulation.items;
+        camera = simulation.camera;
+
+        screen = new Screen(WIDTH, HEIGHT, MAP, items);
+        screen.setThreads(Runtime.getRuntime().availableProcessors());
+
+        startTime = System.nanoTime();
+        elapsedTime = 0;
+
+        simulation.stats = perf;
+        simulation.recording = recording;
+        snapshots = new SnapshotBuffer(items.size());
+        renderView = new WorldSnapshot(items.size());
+        publishSnapshot();
+
+        running = true;
+        thread = new Thread(this, "simulation");
+        renderThread = new Thread(this::renderLoop, "render");
+        thread.start();
+        renderThread.start();
+    }
+
+    private void mouseMoveHandler(MouseEvent e) {
+        double sensitivity = 0.002;
+
+        if (shiftLock) {
+            int centerX = canvas.getWidth() / 2;
+            int dx = e.getX() - centerX;
+            input.addRotation(dx * sensitivity);
+            centerMouse();
+        }
+    }
+
+    private void centerMouse() {
+        if (robot != null) {
+            Point loc = canvas.getLocationOnScreen();
+            robot.mouseMove(loc.x + canvas.getWidth() / 2, loc.y + canvas.getHeight() / 2);
+        }
+    }
+
+    // 시뮬레이션 스레드: 고정 60Hz로 틱을 돌리고 틱마다 스냅샷을 publish
+    @Override
+    public void run() {
+        final double ns = 1_000_000_000.0 / 60.0;
+        long last = System.nanoTime();
+        double delta = 0;
+
+        while (running) {
+            long now = System.nanoTime();
+            delta += (now - last) / ns;
+            last = now;
+            if (delta > MAX_CATCH_UP_TICKS) delta = MAX_CATCH_UP_TICKS;
+
+            while (delta >= 1 && running) {
+                elapsedTime = (System.nanoTime() - startTime) / 1_000_000_000.0;
+
+                simulation.tick(input, showPath);
+
+                if (input.toggleShiftLock) {
+                    shiftLock = !shiftLock;
+                    input.toggleShiftLock = false;
+                    if (shiftLock) {
+                        centerMouse();
+                        canvas.setCursor(blankCursor);
+                    } else {
+                        canvas.setCursor(Cursor.getDefaultCursor());
+                    }
+                }
+
+                if (input.togglePath) {
+                    showPath = !showPath;
+                    input.togglePath = false;
+                }
+
+                if (input.toggleFullscreen) {
+                    input.toggleFullscreen = false;
+                    SwingUtilities.invokeLater(this::toggleFullscreen);
+                }
+
+                publishSnapshot();
+
+                if (simulation.isOver()) {
+                    running = false;
+                }
+
+                delta--;
+            }
+
+            // 다음 틱까지 쉼 (렌더는 별도 스레드)
+            if (running && delta < 1) {
+                LockSupport.parkNanos((long) ((1 - delta) * ns));
+            }
+        }
+
+        // 렌더 스레드가 끝난 뒤 결과 표시
+        try {
+            renderThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        saveRecording();
+
+        if (camera.escaped) {
+            double time = elapsedTime;
+            RECORDS.add(time);
+            RECORDS.sort(Double::compareTo);
+            if (RECORDS.size() > MAX_RECORDS) RECORDS.remove(MAX_RECORDS);
+
+            DecimalFormat df = new DecimalFormat("0.00");
+            JOptionPane.showMessageDialog(this,
+                    "탈출 성공!\n소요 시간: " + df.format(time) + "초",
+                    "축하합니다!",
+                    JOptionPane.INFORMATION_MESSAGE);
+        } else if (camera.gameOver && endless) {
+            DecimalFormat df = new DecimalFormat("0.00");
+            JOptionPane.showMessageDialog(this,
+                    "몬스터에게 잡혔습니다!\n생존 시간: " + df.format(elapsedTime) + "초",
+                    "Game Over",
+                    JOptionPane.ERROR_MESSAGE);
+        } else if (camera.gameOver) {
+            JOptionPane.showMessageDialog(this,
+                    "몬스터에게 잡혔습니다!\n게임 오버",
+                    "Game Over",
+                    JOptionPane.ERROR_MESSAGE);
+        }
+
+        screen.dispose();
+        if (MAP instanceof ChunkedMaze world) world.shutdown();
+        dispose();
+        SwingUtilities.invokeLater(() -> new MainMenu());
+    }
+
+    // 작은 레벨은 힙으로 읽어서 보통 판과 같게, 큰 레벨은 매핑에서 바로 읽음 (미니맵, 탈출 경로 없음)
+    private boolean loadLevel(java.nio.file.Path file) {
+        MappedMaze level;
+        try {
+            level = MazeFile.map(file);
+        } catch (java.io.IOException e) {
+            System.err.println("레벨 파일 열기 실패: " + e.getMessage());
+            return false;
+        }
+
+        // 시작 칸은 헤더에서 읽음. 몬스터도 보통 판처럼 시작 칸에서 나타남
+        double sx = level.startX + 0.5, sy = level.startY + 0.5;
+        Camera start = new Camera(sx, sy, 0);
+        start.setMonster(new Monster(sx, sy));
+        List<Item> levelItems = level.items();
+
+        if ((long) level.width * level.height <= LEVEL_IN_HEAP_CELLS) {
+            MazeGrid grid = level.toGrid();
+            List<Point> exits = level.exits();
+            List<Point> path = exits.isEmpty() ? List.of()
+                    : MazeGenerator.findPath(grid, level.startX, level.startY, exits.get(0).x, exits.get(0).y);
+            simulation = new Simulation(grid, path, levelItems, start);
+            if (grid.width <= MiniMap.SIZE && grid.height <= MiniMap.SIZE) {  // 미니맵은 한 칸이 1픽셀 이상일 때만
+                miniMap = new MiniMap(grid, levelItems, path);
+            }
+        } else {
+            simulation = new Simulation(level, List.of(), levelItems, start);
+        }
+        return true;
+    }
+
+    private void saveRecording() {
+        if (recording == null) return;
+        recording.finalHash = simulation.stateHash();
+        try {
+            recording.save(java.nio.file.Paths.get(REPLAY_FILE));
+        } catch (java.io.IOException e) {
+            System.err.println("리플레이 저장 실패: " + e.getMessage());
+        }
+    }
+
+    private void publishSnapshot() {
+        WorldSnapshot snap = snapshots.back();
+        simulation.capture(snap, elapsedTime);
+        snap.showPath = showPath;
+        snap.shiftLock = shiftLock;
+        snap.publishNanos = System.nanoTime();
+        snapshots.publish();
+    }
+
+    // 렌더 스레드: 가장 최근 스냅샷을 직전 틱과 보간해서 그림. 느린 프레임이 틱을 막지 않음
+    private void renderLoop() {
+        final double tickNanos = Simulation.DT * 1_000_000_000.0;
+        while (running) {
+            pacer.waitForNextFrame();
+
+            if (input.togglePerf) {
+                input.togglePerf = false;
+                showPerf = !showPerf;
+            }
+            if (input.dumpPerf) {
+                input.dumpPerf = false;
+                dumpPerf();
+            }
+
+            WorldSnapshot snap = snapshots.acquire();
+            double alpha = (System.nanoTime() - snap.publishNanos) / tickNanos;
+            renderView.interpolate(snap, Math.max(0, Math.min(1, alpha)));
+
+            render(renderView);
+            Toolkit.getDefaultToolkit().sync();
+        }
+    }
+
+    private void updateBackground() {
+        pacer.setBackground((getExtendedState() & Frame.ICONIFIED) != 0 || !isFocused());
+    }
+
+    private void render(WorldSnapshot snap) {
+        BufferStrategy bs = canvas.getBufferStrategy();
+        if (bs == null) return;
+
+        long frameStart = System.nanoTime();
+
+        // 창 크기(출력 해상도)와 동적 배율로 내부 렌더 해상도 결정
+        outWidth = Math.max(1, canvas.getWidth());
+        outHeight = Math.max(1, canvas.getHeight());
+        screen.resize(resolution.scaledWidth(outWidth), resolution.scaled(outHeight));
+
+        Graphics g = bs.getDrawGraphics();
+
+        screen.render(snap);
+        perf.record(PerfStats.WALLS, screen.getPhaseNanos(Screen.PHASE_WALLS));
+        perf.record(PerfStats.SPRITES, screen.getPhaseNanos(Screen.PHASE_SPRITES));
+
+        long t0 = System.nanoTime();
+        g.drawImage(screen.getImage(), 0, 0, outWidth, outHeight, null);
+        long t1 = System.nanoTime();
+
+        drawMiniMap(g, snap);
+        hud.draw(g, outWidth, outHeight, snap);
+        long t2 = System.nanoTime();
+
+        // 오버레이 자체를 그리는 시간은 어느 단계에도 넣지 않음
+        if (showPerf) perfOverlay.draw(g, 12, 44);
+
+        g.dispose();
+        long t3 = System.nanoTime();
+        bs.show();
+        long t4 = System.nanoTime();
+
+        perf.record(PerfStats.HUD, t2 - t1);
+        perf.record(PerfStats.BLIT, (t1 - t0) + (t4 - t3));
+
+        resolution.frameFinished(System.nanoTime() - frameStart);
+    }
+
+    // 링 버퍼를 복사해서 파일 쓰기는 별도 스레드에서 (렌더 스레드가 멈추지 않도록)
+    private void dumpPerf() {
+        PerfStats copy = perf.copy();
+        Thread writer = new Thread(() -> {
+            java.nio.file.Path file = java.nio.file.Paths.get("perf-" + System.currentTimeMillis() + ".csv");
+            try {
+                copy.writeCsv(file);
+                System.out.println("성능 샘플 저장: " + file.toAbsolutePath());
+            } catch (java.io.IOException e) {
+                System.err.println("성능 샘플 저장 실패: " + e.getMessage());
+            }
+        }, "perf-dump");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private void toggleFullscreen() {
+        GraphicsDevice device = getGraphicsConfiguration().getDevice();
+        if (!device.isFullScreenSupported()) return;
+
+        if (device.getFullScreenWindow() == this) {
+            device.setFullScreenWindow(null);
+        } else {
+            device.setFullScreenWindow(this);
+        }
+        canvas.requestFocusInWindow();
+    }
+
+    private void drawMiniMap(Graphics g, WorldSnapshot snap) {
+        if (miniMap == null) return;
+        int ox = outWidth - MiniMap.SIZE - 12;
+        int oy = 12;
+        miniMap.draw(g, ox, oy, snap);
+    }
+}
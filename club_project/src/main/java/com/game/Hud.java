@@ -0,0 +1,281 @@
+package com.game;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+// HUD 위젯 (시간, 스태미나, Shift Lock). 위젯마다 작은 이미지를 하나씩 두고
+// 화면에 보이는 값(0.01초, 스태미나 %, ON/OFF)이 바뀔 때만 글자와 막대를 다시 그림.
+// 바뀐 위젯은 화면 크기의 HUD 이미지 한 장의 제자리에 복사해 두고, 매 프레임에는 그 한 장만 그림.
+// 시간과 스태미나는 거의 매 틱 바뀌므로 글자/막대를 다시 그리지 않고, 미리 그려 둔 조각 이미지를 이어 붙임
+public class Hud {
+
+    private static final Font TIME_FONT = new Font("SansSerif", Font.BOLD, 20);
+    private static final Font SHIFT_LOCK_FONT = new Font("SansSerif", Font.BOLD, 18);
+    private static final Font STAMINA_FONT = new Font("SansSerif", Font.BOLD, 16);
+
+    private static final Color HUD_BACKGROUND = new Color(0, 0, 0, 150);
+    private static final Color STAMINA_OK = new Color(90, 220, 90);
+    private static final Color STAMINA_LOW = new Color(220, 80, 80);
+
+    private static final String SHIFT_LOCK_ON = "Shift Lock: ON (L 토글)";
+    private static final String SHIFT_LOCK_OFF = "Shift Lock: OFF (L 토글)";
+
+    // 스태미나 막대 크기. 위젯 이미지는 배경 여백 6px을 포함
+    private static final int BAR_W = 220;
+    private static final int BAR_H = 20;
+    private static final int BAR_ARC = 8;
+    private static final int STAMINA_PAD = 6;
+
+    private final BufferedImage timeImage = newWidget(220, 32);
+    private final BufferedImage staminaImage = newWidget(BAR_W + STAMINA_PAD * 2, BAR_H + 32);
+    private final BufferedImage shiftLockImage = newWidget(280, 28);
+
+    // 세 위젯을 합친 화면 크기 이미지. 창 크기가 바뀔 때만 새로 만듦
+    private BufferedImage hudImage;
+    private Graphics2D hudGraphics;
+
+    // 위젯을 마지막으로 그린 값 (-1이면 아직 안 그림)
+    private long timeCentis = -1;
+    private long staminaPercent = -1;
+    private int shiftLockState = -1;
+
+    private final char[] text = new char[32];
+
+    // 시간/스태미나 위젯은 거의 매 틱 다시 그리므로 Graphics를 한 번만 만들어 계속 씀 (createGraphics는 할당함)
+    private Graphics2D timeGraphics, staminaGraphics;
+
+    // 시간 위젯 글자 이미지: 0~9, '.', "시간: ", "초" (처음 한 번만 안티에일리어싱으로 그림)
+    private static final int TIME_DOT = 10, TIME_PREFIX = 11, TIME_SUFFIX = 12;
+    private static final int TIME_BASELINE = 24;
+    private final BufferedImage[] timeGlyphs = new BufferedImage[13];
+    private final int[] timeAdvance = new int[13];
+
+    // 스태미나 위젯 조각: 배경과 빈 막대, 가득 찬 막대 (보통/부족 색), 테두리, 글자 0~9, '%', "Stamina: "
+    private static final int STAMINA_PERCENT = 10, STAMINA_PREFIX = 11;
+    private static final int STAMINA_BASELINE = 18;
+    private final BufferedImage staminaBase = newWidget(staminaImage.getWidth(), staminaImage.getHeight());
+    private final BufferedImage staminaFrame = newWidget(staminaImage.getWidth(), staminaImage.getHeight());
+    private final BufferedImage staminaOk = newWidget(BAR_W, BAR_H);
+    private final BufferedImage staminaLow = newWidget(BAR_W, BAR_H);
+    private final BufferedImage[] staminaShort = new BufferedImage[BAR_ARC];  // 둥근 끝보다 짧은 막대 (부족 색)
+    private final BufferedImage[] staminaGlyphs = new BufferedImage[12];
+    private final int[] staminaAdvance = new int[12];
+
+    public Hud() {
+        for (int d = 0; d < 10; d++) {
+            String digit = String.valueOf((char) ('0' + d));
+            glyph(timeGlyphs, timeAdvance, d, digit, TIME_FONT, timeImage.getHeight(), TIME_BASELINE);
+            glyph(staminaGlyphs, staminaAdvance, d, digit, STAMINA_FONT, 24, STAMINA_BASELINE);
+        }
+        glyph(timeGlyphs, timeAdvance, TIME_DOT, ".", TIME_FONT, timeImage.getHeight(), TIME_BASELINE);
+        glyph(timeGlyphs, timeAdvance, TIME_PREFIX, "시간: ", TIME_FONT, timeImage.getHeight(), TIME_BASELINE);
+        glyph(timeGlyphs, timeAdvance, TIME_SUFFIX, "초", TIME_FONT, timeImage.getHeight(), TIME_BASELINE);
+        glyph(staminaGlyphs, staminaAdvance, STAMINA_PERCENT, "%", STAMINA_FONT, 24, STAMINA_BASELINE);
+        glyph(staminaGlyphs, staminaAdvance, STAMINA_PREFIX, "Stamina: ", STAMINA_FONT, 24, STAMINA_BASELINE);
+        buildStaminaParts();
+    }
+
+    public void draw(Graphics g, int outWidth, int outHeight, WorldSnapshot snap) {
+        if (hudImage == null || hudImage.getWidth() != outWidth || hudImage.getHeight() != outHeight) {
+            resize(outWidth, outHeight);
+        }
+
+        // 바뀐 위젯만 제자리에 덮어씀. 위젯 이미지가 자기 영역을 전부 채우므로 (투명 포함) 지울 필요가 없음
+        // 예전 drawString 위치(기준선)와 같은 곳에 오도록 배치
+        if (updateShiftLock(snap.shiftLock)) {
+            hudGraphics.drawImage(shiftLockImage, 12, 30 - 20, null);
+        }
+        if (updateStamina(snap.stamina)) {
+            hudGraphics.drawImage(staminaImage, outWidth / 2 - BAR_W / 2 - STAMINA_PAD, outHeight - 40 - STAMINA_PAD, null);
+        }
+        if (updateTime(snap.elapsedTime)) {
+            hudGraphics.drawImage(timeImage, outWidth - 200, outHeight - 30 - 24, null);
+        }
+
+        g.drawImage(hudImage, 0, 0, null);
+    }
+
+    // 새 크기의 HUD 이미지를 만들고 위젯을 전부 다시 그리게 함.
+    // 위젯은 Src로 복사해서 알파까지 그대로 옮김 (위젯끼리 겹칠 만큼 작은 창에서는 나중 위젯이 덮음)
+    private void resize(int outWidth, int outHeight) {
+        if (hudGraphics != null) hudGraphics.dispose();
+        hudImage = newWidget(outWidth, outHeight);
+        hudGraphics = hudImage.createGraphics();
+        hudGraphics.setComposite(AlphaComposite.Src);
+        timeCentis = -1;
+        staminaPercent = -1;
+        shiftLockState = -1;
+    }
+
+    // "시간: 12.34초"
+    private boolean updateTime(double elapsedTime) {
+        long centis = (long) (elapsedTime * 100 + 0.5);
+        if (centis == timeCentis) return false;
+        timeCentis = centis;
+
+        int n = appendNumber(text, 0, centis / 100);
+
+        // 글자 래스터화 없이 이미지 복사만
+        if (timeGraphics == null) timeGraphics = timeImage.createGraphics();
+        Graphics2D g = timeGraphics;
+        clear(g, timeImage);
+        int x = blit(g, timeGlyphs, timeAdvance, TIME_PREFIX, 0, 0);
+        for (int i = 0; i < n; i++) {
+            x = blit(g, timeGlyphs, timeAdvance, text[i] - '0', x, 0);
+        }
+        x = blit(g, timeGlyphs, timeAdvance, TIME_DOT, x, 0);
+        x = blit(g, timeGlyphs, timeAdvance, (int) ((centis / 10) % 10), x, 0);
+        x = blit(g, timeGlyphs, timeAdvance, (int) (centis % 10), x, 0);
+        blit(g, timeGlyphs, timeAdvance, TIME_SUFFIX, x, 0);
+        return true;
+    }
+
+    private static int blit(Graphics2D g, BufferedImage[] glyphs, int[] advance, int glyph, int x, int y) {
+        g.drawImage(glyphs[glyph], x, y, null);
+        return x + advance[glyph];
+    }
+
+    // 글자를 위젯과 같은 기준선에 한 번 그려 둠. 안티에일리어싱 가장자리가 잘리지 않게 폭에 여유를 둠
+    private static void glyph(BufferedImage[] glyphs, int[] advance, int glyph, String s,
+                              Font font, int height, int baseline) {
+        BufferedImage probe = newWidget(1, 1);
+        Graphics2D pg = probe.createGraphics();
+        pg.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        FontMetrics fm = pg.getFontMetrics(font);
+        advance[glyph] = fm.stringWidth(s);
+        pg.dispose();
+
+        BufferedImage image = newWidget(advance[glyph] + 4, height);
+        Graphics2D g = begin(image);
+        g.setColor(Color.WHITE);
+        g.setFont(font);
+        g.drawString(s, 0, baseline);
+        g.dispose();
+        glyphs[glyph] = image;
+    }
+
+    // 막대 조각을 한 번만 그림. 채운 막대는 가장 긴 것 하나를 그려 두고 잘라 씀
+    private void buildStaminaParts() {
+        int x = STAMINA_PAD, y = STAMINA_PAD;
+
+        Graphics2D g = begin(staminaBase);
+        g.setColor(HUD_BACKGROUND);
+        g.fillRoundRect(0, 0, BAR_W + STAMINA_PAD * 2, BAR_H + 32, 12, 12);
+        g.setColor(Color.DARK_GRAY);
+        g.fillRoundRect(x, y, BAR_W, BAR_H, BAR_ARC, BAR_ARC);
+        g.dispose();
+
+        g = begin(staminaFrame);
+        g.setColor(Color.WHITE);
+        g.drawRoundRect(x, y, BAR_W, BAR_H, BAR_ARC, BAR_ARC);
+        g.dispose();
+
+        BufferedImage[] fills = {staminaOk, staminaLow};
+        Color[] colors = {STAMINA_OK, STAMINA_LOW};
+        for (int i = 0; i < fills.length; i++) {
+            g = begin(fills[i]);
+            g.setColor(colors[i]);
+            g.fillRoundRect(0, 0, BAR_W, BAR_H, BAR_ARC, BAR_ARC);
+            g.dispose();
+        }
+        for (int w = 1; w < BAR_ARC; w++) {
+            staminaShort[w] = newWidget(w, BAR_H);
+            g = begin(staminaShort[w]);
+            g.setColor(STAMINA_LOW);
+            g.fillRoundRect(0, 0, w, BAR_H, BAR_ARC, BAR_ARC);
+            g.dispose();
+        }
+    }
+
+    // 막대와 "Stamina: 57%"
+    private boolean updateStamina(double stamina) {
+        long percent = Math.round(stamina / Camera.MAX_STAMINA * 100);
+        if (percent == staminaPercent) return false;
+        staminaPercent = percent;
+
+        if (staminaGraphics == null) staminaGraphics = staminaImage.createGraphics();
+        Graphics2D g = staminaGraphics;
+        clear(g, staminaImage);
+        int x = STAMINA_PAD, y = STAMINA_PAD;
+        g.drawImage(staminaBase, 0, 0, null);
+
+        // 폭 w의 둥근 막대 = 가득 찬 막대의 왼쪽 (w - cap)px + 오른쪽 끝 cap px
+        BufferedImage fill = percent > 30 ? staminaOk : staminaLow;
+        int w = (int) (BAR_W * percent / 100);
+        int cap = BAR_ARC / 2;
+        if (w >= BAR_ARC) {
+            g.drawImage(fill, x, y, x + w - cap, y + BAR_H, 0, 0, w - cap, BAR_H, null);
+            g.drawImage(fill, x + w - cap, y, x + w, y + BAR_H, BAR_W - cap, 0, BAR_W, BAR_H, null);
+        } else if (w > 0) {
+            g.drawImage(staminaShort[w], x, y, null);
+        }
+
+        g.drawImage(staminaFrame, 0, 0, null);
+
+        int n = appendNumber(text, 0, percent);
+        int textW = staminaAdvance[STAMINA_PREFIX] + staminaAdvance[STAMINA_PERCENT];
+        for (int i = 0; i < n; i++) textW += staminaAdvance[text[i] - '0'];
+
+        int tx = x + BAR_W / 2 - textW / 2, ty = y + BAR_H + 20 - STAMINA_BASELINE;
+        tx = blit(g, staminaGlyphs, staminaAdvance, STAMINA_PREFIX, tx, ty);
+        for (int i = 0; i < n; i++) {
+            tx = blit(g, staminaGlyphs, staminaAdvance, text[i] - '0', tx, ty);
+        }
+        blit(g, staminaGlyphs, staminaAdvance, STAMINA_PERCENT, tx, ty);
+        return true;
+    }
+
+    private boolean updateShiftLock(boolean on) {
+        int state = on ? 1 : 0;
+        if (state == shiftLockState) return false;
+        shiftLockState = state;
+
+        Graphics2D g = begin(shiftLockImage);
+        g.setColor(Color.WHITE);
+        g.setFont(SHIFT_LOCK_FONT);
+        g.drawString(on ? SHIFT_LOCK_ON : SHIFT_LOCK_OFF, 0, 20);
+        g.dispose();
+        return true;
+    }
+
+    private static BufferedImage newWidget(int w, int h) {
+        return new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    // 위젯 이미지를 투명하게 지우고 그리기 시작. 글자를 그리는 일은 드물므로 안티에일리어싱을 켬
+    // (매 틱 바뀌는 시간 위젯은 여기서 글자를 그리지 않고 글자 이미지만 복사함)
+    private static Graphics2D begin(BufferedImage image) {
+        Graphics2D g = image.createGraphics();
+        clear(g, image);
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        return g;
+    }
+
+    private static void clear(Graphics2D g, BufferedImage image) {
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g.setComposite(AlphaComposite.SrcOver);
+    }
+
+    static int appendText(char[] buf, int n, String text) {
+        text.getChars(0, text.length(), buf, n);
+        return n + text.length();
+    }
+
+    static int appendNumber(char[] buf, int n, long value) {
+        if (value < 0) {
+            buf[n++] = '-';
+            value = -value;
+        }
+        int start = n;
+        do {
+            buf[n++] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value > 0);
+        for (int i = start, j = n - 1; i < j; i++, j--) {
+            char t = buf[i]; buf[i] = buf[j]; buf[j] = t;
+        }
+        return n;
+    }
+}
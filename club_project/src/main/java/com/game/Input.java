@@ -1,39 +1,84 @@
-package com.game;
-
-import java.awt.event.KeyEvent;
-import java.awt.event.KeyListener;
-
-public class Input implements KeyListener {
-
-    public boolean forward, backward, left, right;
-    public boolean sprint;
-    public boolean toggleShiftLock = false;
-    public boolean togglePath = false;  // P 키 토글 추가
-
-    @Override
-    public void keyPressed(KeyEvent e) {
-        switch (e.getKeyCode()) {
-            case KeyEvent.VK_W -> forward = true;
-            case KeyEvent.VK_S -> backward = true;
-            case KeyEvent.VK_A -> left = true;
-            case KeyEvent.VK_D -> right = true;
-            case KeyEvent.VK_SPACE -> sprint = true;
-            case KeyEvent.VK_L -> toggleShiftLock = true;
-            case KeyEvent.VK_P -> togglePath = true;  // P 키 추가
-        }
-    }
-
-    @Override
-    public void keyReleased(KeyEvent e) {
-        switch (e.getKeyCode()) {
-            case KeyEvent.VK_W -> forward = false;
-            case KeyEvent.VK_S -> backward = false;
-            case KeyEvent.VK_A -> left = false;
-            case KeyEvent.VK_D -> right = false;
-            case KeyEvent.VK_SPACE -> sprint = false;
-        }
-    }
-
-    @Override
-    public void keyTyped(KeyEvent e) {}
+package com.game;
+
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 키 상태는 EDT가 쓰고 시뮬레이션 스레드가 읽으므로 volatile
+public class Input implements KeyListener {
+
+    public volatile boolean forward, backward, left, right;
+    public volatile boolean sprint;
+    public volatile boolean toggleShiftLock = false;
+    public volatile boolean togglePath = false;  // P 키 토글 추가
+    public volatile boolean toggleFullscreen = false;  // F11 전체 화면
+    public volatile boolean togglePerf = false;  // F3 성능 오버레이
+    public volatile boolean dumpPerf = false;    // F4 성능 샘플 CSV 저장
+
+    // 한 틱의 키 상태를 비트로 묶을 때 쓰는 값 (기록/재생용)
+    public static final int FORWARD = 1;
+    public static final int BACKWARD = 1 << 1;
+    public static final int LEFT = 1 << 2;
+    public static final int RIGHT = 1 << 3;
+    public static final int SPRINT = 1 << 4;
+
+    // 마우스 회전량 누적 (double 비트를 AtomicLong에 저장)
+    private final AtomicLong rotation = new AtomicLong(Double.doubleToRawLongBits(0.0));
+
+    // EDT: 마우스로 돌린 양을 쌓아둠
+    public void addRotation(double amount) {
+        long prev, next;
+        do {
+            prev = rotation.get();
+            next = Double.doubleToRawLongBits(Double.longBitsToDouble(prev) + amount);
+        } while (!rotation.compareAndSet(prev, next));
+    }
+
+    // 시뮬레이션 스레드: 지난 틱 이후 쌓인 회전량을 가져가고 0으로 되돌림
+    public double takeRotation() {
+        return Double.longBitsToDouble(rotation.getAndSet(Double.doubleToRawLongBits(0.0)));
+    }
+
+    public int flags() {
+        return (forward ? FORWARD : 0) | (backward ? BACKWARD : 0) | (left ? LEFT : 0)
+                | (right ? RIGHT : 0) | (sprint ? SPRINT : 0);
+    }
+
+    public void setFlags(int flags) {
+        forward = (flags & FORWARD) != 0;
+        backward = (flags & BACKWARD) != 0;
+        left = (flags & LEFT) != 0;
+        right = (flags & RIGHT) != 0;
+        sprint = (flags & SPRINT) != 0;
+    }
+
+    @Override
+    public void keyPressed(KeyEvent e) {
+        switch (e.getKeyCode()) {
+            case KeyEvent.VK_W -> forward = true;
+            case KeyEvent.VK_S -> backward = true;
+            case KeyEvent.VK_A -> left = true;
+            case KeyEvent.VK_D -> right = true;
+            case KeyEvent.VK_SPACE -> sprint = true;
+            case KeyEvent.VK_L -> toggleShiftLock = true;
+            case KeyEvent.VK_P -> togglePath = true;  // P 키 추가
+            case KeyEvent.VK_F11 -> toggleFullscreen = true;
+            case KeyEvent.VK_F3 -> togglePerf = true;
+            case KeyEvent.VK_F4 -> dumpPerf = true;
+        }
+    }
+
+    @Override
+    public void keyReleased(KeyEvent e) {
+        switch (e.getKeyCode()) {
+            case KeyEvent.VK_W -> forward = false;
+            case KeyEvent.VK_S -> backward = false;
+            case KeyEvent.VK_A -> left = false;
+            case KeyEvent.VK_D -> right = false;
+            case KeyEvent.VK_SPACE -> sprint = false;
+        }
+    }
+
+    @Override
+    public void keyTyped(KeyEvent e) {}
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+package com.game;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+// 틱마다의 입력 기록. 미로 시드와 함께 저장하면 같은 판을 그대로 다시 돌릴 수 있음
+//
+// 파일 형식 (big-endian):
+//   int 매직 'MIRP', short 버전, long 시드, int 미로 너비, int 미로 높이 (둘 다 0이면 무한 모드),
+//   UTF 미로 알고리즘 이름, int 틱 수
+//   틱마다 byte 플래그 (Input.flags() | SHOW_PATH | ROTATED), ROTATED면 double 회전량
+//   long 마지막 상태 해시 (Simulation.stateHash())
+public class InputRecording {
+
+    private static final int MAGIC = 0x4D495250;  // "MIRP"
+    private static final short VERSION = 1;
+
+    private static final int SHOW_PATH = 1 << 5;
+    private static final int ROTATED = 1 << 6;   // 파일에서만 씀: 회전량이 뒤따름
+
+    public final long seed;
+    public final int width, height;
+    public final MazeAlgorithm algorithm;
+
+    private byte[] flags = new byte[4096];
+    private double[] rotations = new double[4096];
+    private int ticks = 0;
+
+    public long finalHash;
+
+    public InputRecording(long seed, int width, int height, MazeAlgorithm algorithm) {
+        this.seed = seed;
+        this.width = width;
+        this.height = height;
+        this.algorithm = algorithm;
+    }
+
+    public boolean endless() {
+        return width == 0;
+    }
+
+    public void record(int keyFlags, double rotation, boolean showPath) {
+        if (ticks == flags.length) {
+            flags = Arrays.copyOf(flags, ticks * 2);
+            rotations = Arrays.copyOf(rotations, ticks * 2);
+        }
+        flags[ticks] = (byte) (keyFlags | (showPath ? SHOW_PATH : 0));
+        rotations[ticks] = rotation;
+        ticks++;
+    }
+
+    public int ticks() {
+        return ticks;
+    }
+
+    // Input.flags() 형식의 키 상태
+    public int keyFlags(int tick) {
+        return flags[tick] & ~SHOW_PATH;
+    }
+
+    public boolean showPath(int tick) {
+        return (flags[tick] & SHOW_PATH) != 0;
+    }
+
+    public double rotation(int tick) {
+        return rotations[tick];
+    }
+
+    public void save(Path file) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(seed);
+            out.writeInt(width);
+            out.writeInt(height);
+            out.writeUTF(algorithm.name());
+            out.writeInt(ticks);
+            for (int i = 0; i < ticks; i++) {
+                // 회전이 없는 틱이 대부분이라 그때는 1바이트만 씀
+                boolean rotated = rotations[i] != 0.0;
+                out.writeByte(flags[i] | (rotated ? ROTATED : 0));
+                if (rotated) out.writeDouble(rotations[i]);
+            }
+            out.writeLong(finalHash);
+        }
+    }
+
+    public static InputRecording load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) throw new IOException("리플레이 파일이 아님: " + file);
+            short version = in.readShort();
+            if (version != VERSION) throw new IOException("지원하지 않는 리플레이 버전: " + version);
+
+            long seed = in.readLong();
+            int width = in.readInt();
+            int height = in.readInt();
+            MazeAlgorithm algorithm;
+            try {
+                algorithm = MazeAlgorithm.byName(in.readUTF());
+            } catch (IllegalArgumentException e) {
+                throw new IOException(e.getMessage());
+            }
+
+            InputRecording rec = new InputRecording(seed, width, height, algorithm);
+            int ticks = in.readInt();
+            rec.flags = new byte[Math.max(1, ticks)];
+            rec.rotations = new double[Math.max(1, ticks)];
+            for (int i = 0; i < ticks; i++) {
+                int f = in.readUnsignedByte();
+                rec.flags[i] = (byte) (f & ~ROTATED);
+                rec.rotations[i] = (f & ROTATED) != 0 ? in.readDouble() : 0.0;
+            }
+            rec.ticks = ticks;
+            rec.finalHash = in.readLong();
+            return rec;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.game;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.random.RandomGenerator;
+
+// 아이템 배치 단계. 빈 칸 목록을 한 번 만들어 두고 거기서 뽑으므로 벽에 부딪혀 다시 뽑는 일이 없음.
+// 조건: 아이템끼리 최소 간격(Poisson-disk), 시작 칸에서 걸어서 최소 거리, 탈출 경로 진행도에 따른 가중치.
+// 전부 칸 수에 비례하는 시간 (BFS 두 번 + 목록 + alias 표), 아이템 하나는 평균 상수 시간
+public class ItemPlacer {
+
+    public static final ItemPlacer DEFAULT = new ItemPlacer(3.0, 6, 0.0);
+
+    public final double minSpacing;     // 아이템 사이 최소 직선 거리 (칸). 0이면 같은 칸만 막음
+    public final int minStartDistance;  // 시작 칸에서 걸어서 최소 몇 칸
+    public final double progressBias;   // -1..1. 양수면 출구 쪽, 음수면 시작 쪽 탈출 경로에 붙은 칸을 더 자주 고름
+
+    private static final int ATTEMPTS_PER_ITEM = 30;  // 간격 조건 때문에 버리는 횟수 한도
+
+    public ItemPlacer(double minSpacing, int minStartDistance, double progressBias) {
+        this.minSpacing = minSpacing;
+        this.minStartDistance = minStartDistance;
+        this.progressBias = Math.max(-1, Math.min(1, progressBias));
+    }
+
+    // 아이템 칸(MazeGrid.index)들을 돌려줌. 조건이 빡빡하면 count보다 적을 수 있음
+    public int[] place(MazeGrid m, int sx, int sy, int[] escapePath, int count, RandomGenerator r) {
+        byte[] cells = m.cells;
+        int[] dist = new int[cells.length];
+        int[] queue = new int[cells.length];
+
+        // 1) 시작 칸에서의 거리 -> 조건을 만족하는 빈 칸 목록
+        int[] free = new int[cells.length];
+        int n = 0;
+        if (minStartDistance > 0) {
+            bfs(m, dist, queue, new int[]{m.index(sx, sy)}, false);
+            for (int c = 0; c < cells.length; c++) {
+                if (cells[c] == MazeGrid.FLOOR && dist[c] >= minStartDistance) free[n++] = c;
+            }
+        } else {
+            for (int c = 0; c < cells.length; c++) {
+                if (cells[c] == MazeGrid.FLOOR) free[n++] = c;
+            }
+        }
+        if (n == 0 || count <= 0) return new int[0];
+
+        // 2) 칸마다 가중치: 그 칸의 가지가 탈출 경로에 붙는 지점이 경로의 몇 % 지점인지에 따라
+        AliasTable weighted = null;
+        if (progressBias != 0 && escapePath.length > 1) {
+            bfs(m, dist, queue, escapePath, true);  // dist = 붙는 경로 칸 번호
+            double[] weights = new double[n];
+            for (int i = 0; i < n; i++) {
+                double t = dist[free[i]] < 0 ? 0.5 : (double) dist[free[i]] / (escapePath.length - 1);
+                weights[i] = 1 + progressBias * (2 * t - 1);
+            }
+            weighted = new AliasTable(weights);
+        }
+
+        // 3) 뽑기. 간격은 한 변이 minSpacing/√2인 버킷 격자로 검사 (버킷 하나에 아이템이 최대 하나)
+        double spacingSq = minSpacing * minSpacing;
+        double bucket = Math.max(1.0, minSpacing / Math.sqrt(2));
+        int bw = (int) (m.width / bucket) + 1;
+        int bh = (int) (m.height / bucket) + 1;
+        int[] buckets = minSpacing > 1 ? new int[bw * bh] : null;  // 아이템 번호 + 1 (0 = 비었음)
+        BitSet taken = new BitSet(n);
+
+        int[] placed = new int[count];
+        int k = 0;
+        for (int attempts = count * ATTEMPTS_PER_ITEM; k < count && attempts > 0; attempts--) {
+            int i = weighted != null ? weighted.sample(r) : r.nextInt(n);
+            if (taken.get(i)) continue;
+
+            int c = free[i];
+            int x = m.xOf(c), y = m.yOf(c);
+            if (buckets != null) {
+                int bx = (int) (x / bucket), by = (int) (y / bucket);
+                if (!farEnough(m, buckets, placed, bw, bh, bx, by, x, y, spacingSq)) continue;
+                buckets[by * bw + bx] = k + 1;
+            }
+            taken.set(i);
+            placed[k++] = c;
+        }
+        return Arrays.copyOf(placed, k);
+    }
+
+    private static boolean farEnough(MazeGrid m, int[] buckets, int[] placed, int bw, int bh,
+                                     int bx, int by, int x, int y, double spacingSq) {
+        for (int yy = Math.max(0, by - 2); yy <= Math.min(bh - 1, by + 2); yy++) {
+            for (int xx = Math.max(0, bx - 2); xx <= Math.min(bw - 1, bx + 2); xx++) {
+                int p = buckets[yy * bw + xx];
+                if (p == 0) continue;
+                int dx = m.xOf(placed[p - 1]) - x;
+                int dy = m.yOf(placed[p - 1]) - y;
+                if (dx * dx + dy * dy < spacingSq) return false;
+            }
+        }
+        return true;
+    }
+
+    // 여러 출발 칸에서 BFS. label이 false면 out[c] = 거리, true면 out[c] = 처음 닿은 출발 칸의 순번.
+    // 닿지 못한 칸은 -1. 둘레가 벽으로 덧대져 있어서 이웃 칸 범위 검사가 없음
+    private static void bfs(MazeGrid m, int[] out, int[] queue, int[] sources, boolean label) {
+        byte[] cells = m.cells;
+        int[] offsets = {1, -1, m.stride, -m.stride};
+        Arrays.fill(out, -1);
+
+        int head = 0, tail = 0;
+        for (int s = 0; s < sources.length; s++) {
+            if (out[sources[s]] != -1) continue;
+            out[sources[s]] = label ? s : 0;
+            queue[tail++] = sources[s];
+        }
+        while (head < tail) {
+            int c = queue[head++];
+            for (int i = 0; i < 4; i++) {
+                int nb = c + offsets[i];
+                if (cells[nb] == MazeGrid.WALL || out[nb] != -1) continue;
+                out[nb] = label ? out[c] : out[c] + 1;
+                queue[tail++] = nb;
+            }
+        }
+    }
+
+    // Vose의 alias 방법: O(n)에 표를 만들고 가중치대로 O(1)에 뽑음
+    static class AliasTable {
+        private final double[] prob;
+        private final int[] alias;
+
+        AliasTable(double[] weights) {
+            int n = weights.length;
+            prob = new double[n];
+            alias = new int[n];
+
+            double sum = 0;
+            for (double w : weights) sum += w;
+
+            // 평균이 1이 되게 맞춘 뒤 1보다 작은 칸(small)을 큰 칸(large)의 남는 몫으로 채움
+            double[] scaled = new double[n];
+            int[] small = new int[n], large = new int[n];
+            int ns = 0, nl = 0;
+            for (int i = 0; i < n; i++) {
+                scaled[i] = sum > 0 ? weights[i] * n / sum : 1;
+                if (scaled[i] < 1) small[ns++] = i;
+                else large[nl++] = i;
+            }
+            while (ns > 0 && nl > 0) {
+                int s = small[--ns], l = large[--nl];
+                prob[s] = scaled[s];
+                alias[s] = l;
+                scaled[l] += scaled[s] - 1;
+                if (scaled[l] < 1) small[ns++] = l;
+                else large[nl++] = l;
+            }
+            while (nl > 0) prob[large[--nl]] = 1;
+            while (ns > 0) prob[small[--ns]] = 1;  // 반올림 오차로 남은 것
+        }
+
+        int sample(RandomGenerator r) {
+            int i = r.nextInt(prob.length);
+            return r.nextDouble() < prob[i] ? i : alias[i];
+        }
+    }
+}
@@ -1,7 +1,7 @@
-package com.game;
-
-public enum ItemType {
-    STAMINA,     // 초록: 스태미나 즉시 100% 회복
-    FREEZE,      // 노랑: 몬스터 5초 경직
-    FLASHLIGHT   // 파랑: 5초간 전체 시야 밝게 (fog 제거)
+package com.game;
+
+public enum ItemType {
+    STAMINA,     // 초록: 스태미나 즉시 100% 회복
+    FREEZE,      // 노랑: 몬스터 5초 경직
+    FLASHLIGHT   // 파랑: 5초간 전체 시야 밝게 (fog 제거)
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.game;
+
+import java.util.random.RandomGenerator;
+
+// 무작위 Kruskal: 칸 사이 벽을 전부 섞어 놓고, 양쪽이 아직 다른 집합이면 허물며 합침.
+// 짧은 막다른 길이 많고 통로가 고르게 퍼진 미로. 집합은 int 배열 union-find
+public class KruskalMaze implements MazeAlgorithm {
+
+    @Override
+    public String name() {
+        return "kruskal";
+    }
+
+    @Override
+    public void carve(MazeGrid m, RandomGenerator r) {
+        int cols = m.roomCols();
+        int rows = m.roomRows();
+        int n = cols * rows;
+        if (n == 0) return;
+
+        // 벽 = 칸 번호 * 2 + (0: 오른쪽 벽, 1: 아래쪽 벽)
+        int[] walls = new int[n * 2];
+        int count = 0;
+        for (int cy = 0; cy < rows; cy++) {
+            for (int cx = 0; cx < cols; cx++) {
+                int i = cy * cols + cx;
+                if (cx + 1 < cols) walls[count++] = i * 2;
+                if (cy + 1 < rows) walls[count++] = i * 2 + 1;
+            }
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = r.nextInt(i + 1);
+            int t = walls[i]; walls[i] = walls[j]; walls[j] = t;
+        }
+
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) parent[i] = i;
+
+        for (int i = 0; i < n; i++) {
+            m.cells[m.roomIndex(i)] = MazeGrid.FLOOR;
+        }
+
+        int joined = 0;
+        for (int k = 0; k < count && joined < n - 1; k++) {
+            int a = walls[k] >> 1;
+            int b = (walls[k] & 1) == 0 ? a + 1 : a + cols;
+            int ra = find(parent, a);
+            int rb = find(parent, b);
+            if (ra == rb) continue;
+
+            parent[rb] = ra;
+            joined++;
+            int ga = m.roomIndex(a);
+            int gb = m.roomIndex(b);
+            m.cells[(ga + gb) >> 1] = MazeGrid.FLOOR;
+        }
+    }
+
+    // 경로 절반 압축
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+}
@@ -0,0 +1,91 @@
+package com.game;
+
+import java.awt.Point;
+import java.nio.MappedByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+// 메모리에 매핑한 미로 파일 (MazeFile.map). 칸을 힙에 복사하지 않고 매핑에서 2비트씩 바로 읽음.
+// 파일은 MazeFile.SEGMENT씩 나눠 매핑되어 있고, 칸 위치(long)로 조각과 조각 안 위치를 고름.
+// 절대 위치 get만 쓰므로 여러 스레드가 같이 읽어도 됨. 범위 밖은 MazeGrid의 덧댄 둘레처럼 벽
+public class MappedMaze implements MazeMap {
+
+    public final int width, height;
+    public final long seed;
+    public final int startX, startY;  // 플레이어 시작 칸
+
+    private final MappedByteBuffer[] segments;
+    private final MappedByteBuffer head;  // 첫 조각 (헤더, 출구/아이템 표)
+    private final int exitCount, itemCount;
+    private final long cellBase;  // 칸 영역이 시작하는 파일 위치
+
+    MappedMaze(MappedByteBuffer[] segments, int width, int height, long seed, int startX, int startY,
+               int exitCount, int itemCount, long cellBase) {
+        this.segments = segments;
+        this.head = segments[0];
+        this.width = width;
+        this.height = height;
+        this.seed = seed;
+        this.startX = startX;
+        this.startY = startY;
+        this.exitCount = exitCount;
+        this.itemCount = itemCount;
+        this.cellBase = cellBase;
+    }
+
+    @Override
+    public byte get(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return MazeGrid.WALL;
+        long i = (long) y * width + x;
+        long p = cellBase + (i >> 2);
+        int b = segments[(int) (p / MazeFile.SEGMENT)].get((int) (p % MazeFile.SEGMENT));
+        return (byte) ((b >> ((i & 3) * 2)) & 3);
+    }
+
+    // window를 (x, y) 가운데로 옮겨서 채움. 미로 밖은 벽
+    @Override
+    public MazeGrid around(int x, int y, MazeGrid window) {
+        window.originX = x - window.width / 2;
+        window.originY = y - window.height / 2;
+        fill(window);
+        return window;
+    }
+
+    // 미로 전체를 힙의 MazeGrid로 (작은 레벨은 미니맵과 탈출 경로 계산을 위해 이렇게 씀)
+    public MazeGrid toGrid() {
+        MazeGrid m = new MazeGrid(width, height);
+        fill(m);
+        return m;
+    }
+
+    private void fill(MazeGrid m) {
+        byte[] cells = m.cells;
+        for (int wy = 0; wy < m.height; wy++) {
+            int y = m.originY + wy;
+            int c = m.index(m.originX, y);
+            for (int wx = 0; wx < m.width; wx++) {
+                cells[c + wx] = get(m.originX + wx, y);
+            }
+        }
+    }
+
+    public List<Point> exits() {
+        List<Point> exits = new ArrayList<>(exitCount);
+        int p = MazeFile.HEADER;
+        for (int i = 0; i < exitCount; i++, p += MazeFile.EXIT_BYTES) {
+            exits.add(new Point(head.getInt(p), head.getInt(p + 4)));
+        }
+        return exits;
+    }
+
+    // 부를 때마다 새 목록 (아이템은 먹었는지 상태를 가지므로 판마다 따로)
+    public List<Item> items() {
+        List<Item> items = new ArrayList<>(itemCount);
+        ItemType[] types = ItemType.values();
+        int p = MazeFile.HEADER + exitCount * MazeFile.EXIT_BYTES;
+        for (int i = 0; i < itemCount; i++, p += MazeFile.ITEM_BYTES) {
+            items.add(new Item(head.getInt(p) + 0.5, head.getInt(p + 4) + 0.5, types[head.get(p + 8)]));
+        }
+        return items;
+    }
+}
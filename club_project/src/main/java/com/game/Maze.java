@@ -0,0 +1,65 @@
+package com.game;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+
+// MazeGenerator가 만든 미로 하나. 만든 뒤로 바뀌지 않으므로 여러 판, 여러 스레드가 같이 써도 됨
+// (grid 배열은 읽기만 할 것). 판마다 바뀌는 아이템/몬스터 상태는 new* 메서드가 새로 만들어 줌
+public final class Maze {
+
+    public final long seed;
+    public final MazeAlgorithm algorithm;
+    public final MazeGrid grid;
+
+    public final int exitX, exitY;
+    public final List<Point> escapePath;  // 시작에서 출구까지 최단 경로 (수정 불가)
+
+    public final double startX, startY;      // 플레이어 시작 위치
+    public final double monsterX, monsterY;  // 몬스터 등장 위치
+
+    // 아이템 배치 (칸 좌표, 위치는 칸 가운데)
+    private final int[] itemX, itemY;
+    private final ItemType[] itemTypes;
+
+    Maze(long seed, MazeAlgorithm algorithm, MazeGrid grid, int exitX, int exitY, List<Point> escapePath,
+         double startX, double startY, double monsterX, double monsterY,
+         int[] itemX, int[] itemY, ItemType[] itemTypes) {
+        this.seed = seed;
+        this.algorithm = algorithm;
+        this.grid = grid;
+        this.exitX = exitX;
+        this.exitY = exitY;
+        this.escapePath = List.copyOf(escapePath);
+        this.startX = startX;
+        this.startY = startY;
+        this.monsterX = monsterX;
+        this.monsterY = monsterY;
+        this.itemX = itemX;
+        this.itemY = itemY;
+        this.itemTypes = itemTypes;
+    }
+
+    public int itemCount() {
+        return itemX.length;
+    }
+
+    public List<Item> newItems() {
+        List<Item> items = new ArrayList<>(itemX.length);
+        for (int i = 0; i < itemX.length; i++) {
+            items.add(new Item(itemX[i] + 0.5, itemY[i] + 0.5, itemTypes[i]));
+        }
+        return items;
+    }
+
+    public Monster newMonster() {
+        return new Monster(monsterX, monsterY);
+    }
+
+    // 이 미로로 새 판 시작 (Game과 같은 초기 상태)
+    public Simulation newSimulation() {
+        Camera camera = new Camera(startX, startY, 0);
+        camera.setMonster(newMonster());
+        return new Simulation(grid, escapePath, newItems(), camera);
+    }
+}
@@ -0,0 +1,29 @@
+package com.game;
+
+import java.util.random.RandomGenerator;
+
+// 미로 파기 알고리즘. 전부 벽인 격자에서 홀수 좌표 칸(1, 3, 5, ...)을 통로로 잇는 완전 미로를 만듦
+// (모든 칸이 연결되고 고리가 없음). 격자의 너비/높이는 홀수여야 함
+public interface MazeAlgorithm {
+
+    MazeAlgorithm BACKTRACKER = new BacktrackerMaze();
+    MazeAlgorithm KRUSKAL = new KruskalMaze();
+    MazeAlgorithm WILSON = new WilsonMaze();
+    MazeAlgorithm PRIM = new PrimMaze();
+    MazeAlgorithm ELLER = new EllerMaze();
+    MazeAlgorithm TILED = new TiledMaze(BACKTRACKER, null);  // 큰 미로용 병렬 생성
+
+    MazeAlgorithm[] ALL = {BACKTRACKER, KRUSKAL, WILSON, PRIM, ELLER, TILED};
+
+    String name();
+
+    void carve(MazeGrid grid, RandomGenerator r);
+
+    // 이름으로 찾기 (-Dmiro.maze, 벤치마크 옵션용). 없으면 IllegalArgumentException
+    static MazeAlgorithm byName(String name) {
+        for (MazeAlgorithm a : ALL) {
+            if (a.name().equalsIgnoreCase(name)) return a;
+        }
+        throw new IllegalArgumentException("알 수 없는 미로 알고리즘: " + name);
+    }
+}
@@ -0,0 +1,153 @@
+package com.game;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+// 헤드리스 미로 생성 벤치마크: 알고리즘/크기별로 미로를 여러 번 만들고 파기만의 시간과 초당 칸 수,
+// 탈출 경로(BFS)와 아이템 배치 시간을 따로, 결과 미로의 성질(시작~출구 경로 길이, 막다른 칸 비율)을 출력
+// 실행: java -Xmx2g -cp target/classes com.game.MazeBenchmark algos=backtracker,eller sizes=41,1001,4001 reps=5
+// 옵션: algos(쉼표로 구분, 기본 전부), sizes(쉼표로 구분), reps(측정 횟수, 워밍업 1회 별도), seed,
+//       stream(0보다 크면 Eller로 sizes 마지막 너비 x stream 행을 격자 없이 흘려보내며 측정),
+//       tiled(0보다 크면 tiled x tiled 미로를 threads 목록의 스레드 수별로 병렬 생성해서 확장성 측정)
+// 예: java -Xmx2g -cp target/classes com.game.MazeBenchmark algos=tiled sizes=41 tiled=10001 threads=1,2,4,8
+public class MazeBenchmark {
+
+    public static void main(String[] args) {
+        MazeAlgorithm[] algos = algorithmsArg(args);
+        int[] sizes = CliArgs.intListArg(args, "sizes", new int[]{41, 1001, 4001});
+        int reps = CliArgs.intArg(args, "reps", 5);
+        long seed = CliArgs.longArg(args, "seed", 1);
+        int streamRows = CliArgs.intArg(args, "stream", 0);
+        int tiledSize = CliArgs.intArg(args, "tiled", 0);
+        int[] threads = CliArgs.intListArg(args, "threads", new int[]{1, Runtime.getRuntime().availableProcessors()});
+
+        System.out.printf("%-12s %-7s %10s %10s %12s %10s %10s %10s %22s %8s%n",
+                "algorithm", "size", "carve ms", "best ms", "Mcells/s", "path ms", "items ms", "heap MB",
+                "path mean/min/max", "deadend");
+        for (MazeAlgorithm algo : algos) {
+            for (int size : sizes) {
+                run(algo, size, reps, seed);
+            }
+        }
+
+        if (streamRows > 0) stream(sizes[sizes.length - 1], streamRows, seed);
+        if (tiledSize > 0) tiled(tiledSize | 1, threads, reps, seed);
+    }
+
+    // 파기, 탈출 경로, 아이템 배치를 따로 잼. 초당 칸 수는 파기만으로 계산
+    private static void run(MazeAlgorithm algo, int size, int reps, long seed) {
+        long cells = (long) size * size;
+        MazeGenerator generator = new MazeGenerator(size, size, MazeGenerator.ITEM_COUNT, algo);
+        generator.generate(seed);  // 워밍업
+
+        long best = Long.MAX_VALUE, total = 0, pathTotal = 0, itemTotal = 0;
+        long[] pathLength = new long[reps];
+        double deadEnds = 0;
+        for (int r = 0; r < reps; r++) {
+            long t0 = System.nanoTime();
+            MazeGrid grid = generator.carve(seed + r);
+            long t1 = System.nanoTime();
+            List<Point> path = generator.escapePath(grid);
+            long t2 = System.nanoTime();
+            generator.placeItems(grid, path, new SplittableRandom(seed + r));
+            long t3 = System.nanoTime();
+
+            best = Math.min(best, t1 - t0);
+            total += t1 - t0;
+            pathTotal += t2 - t1;
+            itemTotal += t3 - t2;
+
+            pathLength[r] = path.size() - 1;
+            deadEnds += deadEndRatio(grid);
+        }
+
+        Runtime rt = Runtime.getRuntime();
+        double mean = (double) total / reps;
+        Arrays.sort(pathLength);
+        System.out.printf("%-12s %-7d %10.2f %10.2f %12.2f %10.2f %10.2f %10d %22s %7.1f%%%n", algo.name(), size,
+                mean / 1e6, best / 1e6, cells / (mean / 1e9) / 1e6,
+                pathTotal / 1e6 / reps, itemTotal / 1e6 / reps,
+                (rt.totalMemory() - rt.freeMemory()) >> 20,
+                String.format("%.0f/%d/%d", (double) Arrays.stream(pathLength).sum() / reps,
+                        pathLength[0], pathLength[reps - 1]),
+                deadEnds / reps * 100);
+    }
+
+    // 방 가운데 통로가 한 방향뿐인 방의 비율
+    private static double deadEndRatio(MazeGrid m) {
+        int rooms = m.roomCols() * m.roomRows();
+        int deadEnds = 0;
+        for (int i = 0; i < rooms; i++) {
+            int c = m.roomIndex(i);
+            int open = 0;
+            if (m.cells[c + 1] != MazeGrid.WALL) open++;
+            if (m.cells[c - 1] != MazeGrid.WALL) open++;
+            if (m.cells[c + m.stride] != MazeGrid.WALL) open++;
+            if (m.cells[c - m.stride] != MazeGrid.WALL) open++;
+            if (open == 1) deadEnds++;
+        }
+        return rooms == 0 ? 0 : (double) deadEnds / rooms;
+    }
+
+    // 격자를 만들지 않고 Eller 행만 흘려보냄. 메모리가 행 수와 무관해야 함
+    private static void stream(int width, int rows, long seed) {
+        long[] floor = new long[1];
+        Runtime rt = Runtime.getRuntime();
+        System.gc();
+        long before = rt.totalMemory() - rt.freeMemory();
+
+        long t0 = System.nanoTime();
+        ((EllerMaze) MazeAlgorithm.ELLER).stream(width, rows, new Random(seed), (y, cells) -> {
+            for (byte c : cells) if (c == MazeGrid.FLOOR) floor[0]++;
+            return true;
+        });
+        long elapsed = System.nanoTime() - t0;
+
+        long after = rt.totalMemory() - rt.freeMemory();
+        System.out.printf("eller stream %dx%d: %.2f s, %.2f Mcells/s, 통로 %d칸, 힙 변화 %d MB%n",
+                width, rows, elapsed / 1e9, (double) width * rows / (elapsed / 1e9) / 1e6,
+                floor[0], (after - before) >> 20);
+    }
+
+    // 스레드 수별로 같은 시드의 큰 미로를 만들고 시간과 결과 해시를 출력. 해시는 스레드 수와 상관없이 같아야 함
+    // (탈출 경로 BFS는 미로 크기만큼 int 배열이 필요해서 여기서는 파기만 잼)
+    private static void tiled(int size, int[] threads, int reps, long seed) {
+        System.out.printf("tiled %dx%d, 타일 %d방, reps=%d%n", size, size, TiledMaze.TILE, reps);
+        System.out.printf("%-8s %10s %10s %10s %18s%n", "threads", "best ms", "Mcells/s", "speedup", "hash");
+
+        double base = 0;
+        for (int t : threads) {
+            ForkJoinPool pool = new ForkJoinPool(t);
+            MazeAlgorithm algo = new TiledMaze(MazeAlgorithm.BACKTRACKER, pool);
+
+            long best = Long.MAX_VALUE;
+            int hash = 0;
+            for (int r = 0; r <= reps; r++) {  // 첫 회는 워밍업
+                MazeGrid m = new MazeGrid(size, size);
+                long t0 = System.nanoTime();
+                algo.carve(m, new Random(seed));
+                long elapsed = System.nanoTime() - t0;
+                if (r > 0) best = Math.min(best, elapsed);
+                hash = Arrays.hashCode(m.cells);
+            }
+            pool.shutdown();
+
+            if (base == 0) base = best;
+            System.out.printf("%-8d %10.1f %10.2f %9.2fx %18s%n", t, best / 1e6,
+                    (double) size * size / (best / 1e9) / 1e6, base / best, Integer.toHexString(hash));
+        }
+    }
+
+    private static MazeAlgorithm[] algorithmsArg(String[] args) {
+        String list = CliArgs.stringArg(args, "algos", null);
+        if (list == null) return MazeAlgorithm.ALL;
+        String[] names = list.split(",");
+        MazeAlgorithm[] algos = new MazeAlgorithm[names.length];
+        for (int i = 0; i < names.length; i++) algos[i] = MazeAlgorithm.byName(names[i].trim());
+        return algos;
+    }
+}
@@ -0,0 +1,285 @@
+package com.game;
+
+import java.awt.Point;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// 미로 레벨 파일. 헤더가 고정 길이라 셀 영역 위치를 바로 계산할 수 있고, 읽을 때는 파일을
+// 메모리에 매핑해서 칸을 그 자리에서 읽음 (MappedMaze). 힙보다 큰 미로도 열 수 있음
+// 파일 형식 (big-endian):
+//   int 매직 'MIRM', short 버전, short 0, int 너비, int 높이, long 시드, int 시작 x, int 시작 y,
+//   int 출구 수, int 아이템 수
+//   출구마다 int x, int y / 아이템마다 int x, int y, byte 종류 (칸 좌표, 위치는 칸 가운데)
+//   칸 2비트씩 (MazeGrid.FLOOR/WALL/EXIT) 행 우선, 한 바이트에 4칸 (낮은 비트부터)
+// 실행: java -cp target/classes com.game.MazeFile out=levels count=200 size=41 seed=1 algo=backtracker threads=8
+//       java -cp target/classes com.game.MazeFile stream=big.maze width=100001 height=100001 seed=1
+//       java -cp target/classes com.game.MazeFile open=levels/level-000.maze
+public class MazeFile {
+
+    static final int MAGIC = 0x4D49524D;  // "MIRM"
+    static final short VERSION = 2;
+    static final int HEADER = 40;
+    static final int EXIT_BYTES = 8;
+    static final int ITEM_BYTES = 9;
+
+    // 한 번에 매핑하는 크기. MappedByteBuffer 하나는 2GB까지라 큰 파일은 여러 조각으로 나눠 매핑함
+    // 헤더와 출구/아이템 표는 첫 조각 안에 있어야 함 (칸은 바이트 단위로만 읽어서 조각 경계에 걸치는 값이 없음)
+    static final long SEGMENT = 1L << 30;
+
+    // 힙에 있는 미로를 씀 (MazeGenerator로 만든 작은 레벨)
+    public static void write(Path file, MazeGrid m, long seed, int startX, int startY, List<Item> items) throws IOException {
+        List<Point> exits = new ArrayList<>();
+        for (int y = 0; y < m.height; y++) {
+            for (int x = 0; x < m.width; x++) {
+                if (m.get(x, y) == MazeGrid.EXIT) exits.add(new Point(x, y));
+            }
+        }
+
+        try (DataOutputStream out = create(file)) {
+            writeHeader(out, m.width, m.height, seed, startX, startY, exits, items);
+            CellPacker cells = new CellPacker(out);
+            for (int y = 0; y < m.height; y++) {
+                int row = m.index(0, y);
+                for (int x = 0; x < m.width; x++) cells.add(m.cells[row + x]);
+            }
+            cells.finish();
+        }
+    }
+
+    // Eller로 한 행씩 만들면서 바로 씀. 격자를 힙에 두지 않으므로 크기는 파일(칸당 2비트)로만 제한됨.
+    // 칸은 MazeGenerator(ELLER).generate(seed)와 같음. 시작은 왼쪽 위 방, 출구는 오른쪽 아래 방이고
+    // 아이템은 경로 계산 없이 시작/출구가 아닌 방에서 무작위로 고름 (Eller는 모든 방이 통로)
+    public static void writeStreamed(Path file, int width, int height, long seed, int itemCount) throws IOException {
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom carveRandom = root.split();
+        SplittableRandom itemRandom = root.split();
+
+        int exitX = width - 2, exitY = height - 2;
+        List<Point> exits = List.of(new Point(exitX, exitY));
+
+        int cols = (width - 1) / 2, rows = (height - 1) / 2;
+        List<Item> items = new ArrayList<>(itemCount);
+        ItemType[] types = ItemType.values();
+        while (items.size() < itemCount && (long) cols * rows > 2) {
+            int x = 1 + 2 * itemRandom.nextInt(cols), y = 1 + 2 * itemRandom.nextInt(rows);
+            if ((x == 1 && y == 1) || (x == exitX && y == exitY)) continue;
+            items.add(new Item(x + 0.5, y + 0.5, types[itemRandom.nextInt(types.length)]));
+        }
+
+        try (DataOutputStream out = create(file)) {
+            writeHeader(out, width, height, seed, 1, 1, exits, items);
+            CellPacker cells = new CellPacker(out);
+            try {
+                new EllerMaze().stream(width, height, carveRandom, (y, row) -> {
+                    for (int x = 0; x < width; x++) {
+                        cells.add(y == exitY && x == exitX ? MazeGrid.EXIT : row[x]);
+                    }
+                    return true;
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            cells.finish();
+        }
+    }
+
+    private static DataOutputStream create(Path file) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+    }
+
+    private static void writeHeader(DataOutputStream out, int width, int height, long seed, int startX, int startY,
+                                    List<Point> exits, List<Item> items) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeShort(0);
+        out.writeInt(width);
+        out.writeInt(height);
+        out.writeLong(seed);
+        out.writeInt(startX);
+        out.writeInt(startY);
+        out.writeInt(exits.size());
+        out.writeInt(items.size());
+        for (Point p : exits) {
+            out.writeInt(p.x);
+            out.writeInt(p.y);
+        }
+        for (Item it : items) {
+            out.writeInt((int) it.x);
+            out.writeInt((int) it.y);
+            out.writeByte(it.type.ordinal());
+        }
+    }
+
+    // 행 경계와 상관없이 칸 번호 순서로 4칸씩 한 바이트에 채움
+    private static class CellPacker {
+        private final DataOutputStream out;
+        private int packed = 0, n = 0;
+
+        CellPacker(DataOutputStream out) {
+            this.out = out;
+        }
+
+        // RowSink 안에서도 부르므로 검사 예외 대신 UncheckedIOException
+        void add(byte cell) {
+            packed |= (cell & 3) << (n * 2);
+            if (++n == 4) {
+                flush();
+            }
+        }
+
+        void finish() {
+            if (n > 0) flush();
+        }
+
+        private void flush() {
+            try {
+                out.writeByte(packed);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            packed = 0;
+            n = 0;
+        }
+    }
+
+    // 파일을 읽기 전용으로 SEGMENT씩 나눠 매핑
+    // 헤더 값은 쓰기 전에 전부 검사해서, 잘리거나 깨진 파일은 읽다가 터지지 않고 IOException으로 알림
+    public static MappedMaze map(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            if (size < HEADER) throw new IOException("미로 파일이 아님: " + file);
+
+            // 매핑은 채널을 닫아도 유지됨
+            MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((size + SEGMENT - 1) / SEGMENT)];
+            for (int i = 0; i < segments.length; i++) {
+                long offset = i * SEGMENT;
+                segments[i] = ch.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(SEGMENT, size - offset));
+            }
+
+            MappedByteBuffer head = segments[0];
+            if (head.getInt(0) != MAGIC) throw new IOException("미로 파일이 아님: " + file);
+            short version = head.getShort(4);
+            if (version != VERSION) throw new IOException("지원하지 않는 미로 파일 버전: " + version);
+
+            int width = head.getInt(8);
+            int height = head.getInt(12);
+            int startX = head.getInt(24);
+            int startY = head.getInt(28);
+            int exits = head.getInt(32);
+            int items = head.getInt(36);
+            if (width <= 0 || height <= 0) {
+                throw new IOException("미로 크기가 잘못됨 (" + width + "x" + height + "): " + file);
+            }
+            if (exits < 0 || items < 0) {
+                throw new IOException("출구/아이템 수가 잘못됨 (" + exits + ", " + items + "): " + file);
+            }
+
+            long cellBase = HEADER + (long) exits * EXIT_BYTES + (long) items * ITEM_BYTES;
+            long expected = cellBase + ((long) width * height + 3) / 4;
+            if (expected > size) throw new IOException("미로 파일이 잘림 (" + size + " / " + expected + " bytes): " + file);
+            if (expected < size) throw new IOException("미로 파일 뒤에 남는 데이터가 있음 (" + size + " / " + expected + " bytes): " + file);
+            if (cellBase > SEGMENT) throw new IOException("출구/아이템 표가 너무 큼 (" + exits + ", " + items + "): " + file);
+
+            checkCell(file, "시작", 0, startX, startY, width, height);
+            checkRecords(head, file, width, height, exits, items);
+            return new MappedMaze(segments, width, height, head.getLong(16), startX, startY, exits, items, cellBase);
+        }
+    }
+
+    // 출구와 아이템 좌표가 미로 안인지, 아이템 종류가 ItemType에 있는지
+    private static void checkRecords(MappedByteBuffer buf, Path file, int width, int height,
+                                     int exits, int items) throws IOException {
+        int p = HEADER;
+        for (int i = 0; i < exits; i++, p += EXIT_BYTES) {
+            checkCell(file, "출구", i, buf.getInt(p), buf.getInt(p + 4), width, height);
+        }
+        int types = ItemType.values().length;
+        for (int i = 0; i < items; i++, p += ITEM_BYTES) {
+            checkCell(file, "아이템", i, buf.getInt(p), buf.getInt(p + 4), width, height);
+            int type = buf.get(p + 8);
+            if (type < 0 || type >= types) {
+                throw new IOException("아이템 " + i + "의 종류 번호가 잘못됨 (" + type + "): " + file);
+            }
+        }
+    }
+
+    private static void checkCell(Path file, String what, int i, int x, int y, int width, int height) throws IOException {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            throw new IOException(what + " " + i + "의 위치가 미로 밖 (" + x + ", " + y + "): " + file);
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String open = CliArgs.stringArg(args, "open", null);
+        if (open != null) {
+            open(Paths.get(open));
+            return;
+        }
+
+        String stream = CliArgs.stringArg(args, "stream", null);
+        if (stream != null) {
+            stream(Paths.get(stream), args);
+            return;
+        }
+
+        Path out = Paths.get(CliArgs.stringArg(args, "out", "levels"));
+        int count = CliArgs.intArg(args, "count", 10);
+        int size = CliArgs.intArg(args, "size", Game.MAZE_SIZE) | 1;
+        long seed = CliArgs.longArg(args, "seed", 1);
+        int threads = CliArgs.intArg(args, "threads", Runtime.getRuntime().availableProcessors());
+        MazeAlgorithm algorithm = MazeAlgorithm.byName(CliArgs.stringArg(args, "algo", "backtracker"));
+
+        // 묶음 전체를 동시에 만든 뒤 차례로 씀. 같은 seed, count면 스레드 수와 상관없이 같은 묶음
+        long t0 = System.nanoTime();
+        Maze[] mazes = new MazeGenerator(size, size, MazeGenerator.ITEM_COUNT, algorithm).generateAll(seed, count, threads);
+        long t1 = System.nanoTime();
+
+        for (int i = 0; i < count; i++) {
+            Path file = out.resolve(String.format("level-%03d.maze", i));
+            Maze maze = mazes[i];
+            write(file, maze.grid, maze.seed, (int) maze.startX, (int) maze.startY, maze.newItems());
+            System.out.printf("%s: %dx%d seed=%d, %d bytes%n", file, size, size, mazes[i].seed, Files.size(file));
+        }
+        System.out.printf("생성 %.1f ms (threads=%d), 저장 %.1f ms%n", (t1 - t0) / 1e6, threads,
+                (System.nanoTime() - t1) / 1e6);
+    }
+
+    // 미로 하나를 Eller로 흘려 쓰며 걸린 시간을 잼 (힙보다 큰 미로용)
+    private static void stream(Path file, String[] args) throws IOException {
+        int width = CliArgs.intArg(args, "width", 10001) | 1;
+        int height = CliArgs.intArg(args, "height", width) | 1;
+        long seed = CliArgs.longArg(args, "seed", 1);
+
+        long t0 = System.nanoTime();
+        writeStreamed(file, width, height, seed, MazeGenerator.ITEM_COUNT);
+        double seconds = (System.nanoTime() - t0) / 1e9;
+        System.out.printf("%s: %dx%d seed=%d, %d bytes, %.1f s (%.1f M칸/s)%n", file, width, height, seed,
+                Files.size(file), seconds, (double) width * height / seconds / 1e6);
+    }
+
+    // 매핑 시간과 첫 화면에 필요한 만큼(시작 주변 창) 읽는 시간을 잼
+    private static void open(Path file) throws IOException {
+        long t0 = System.nanoTime();
+        MappedMaze maze = map(file);
+        long t1 = System.nanoTime();
+        maze.around(maze.startX, maze.startY, new MazeGrid(35, 35));
+        long t2 = System.nanoTime();
+
+        System.out.printf("%s: %dx%d seed=%d, 출구 %d개, 아이템 %d개%n", file, maze.width, maze.height,
+                maze.seed, maze.exits().size(), maze.items().size());
+        System.out.printf("매핑 %.3f ms, 시작 주변 창 %.3f ms%n", (t1 - t0) / 1e6, (t2 - t1) / 1e6);
+    }
+}
@@ -1,97 +1,147 @@
-package com.game;
-
-import java.awt.Point;
-import java.util.*;
-
-public class MazeGenerator {
-
-    private static List<Point> escapePath;
-    private static List<Item> items;
-    private static Monster monster;
-
-    public static int[][] generate(int w, int h) {
-        int[][] m = new int[h][w];
-        for (int y=0;y<h;y++)
-            for (int x=0;x<w;x++)
-                m[y][x] = 1;
-
-        carve(1,1,m);
-        m[h-2][w-2] = 2;
-
-        escapePath = findPath(m,1,1,w-2,h-2);
-
-        items = new ArrayList<>();
-        Random r = new Random();
-
-        for (int i=0;i<8;i++) {
-            int x,y;
-            do {
-                x = r.nextInt(w);
-                y = r.nextInt(h);
-            } while (m[y][x] != 0);
-
-            ItemType type = ItemType.values()[r.nextInt(ItemType.values().length)];
-            items.add(new Item(x+0.5, y+0.5, type));
-        }
-
-        // 몬스터를 플레이어 정확한 시작 위치에 생성 (1.5, 1.5)
-        monster = new Monster(1.5, 1.5);
-
-        return m;
-    }
-
-    public static List<Point> getEscapePath(){ return escapePath; }
-    public static List<Item> getItems(){ return items; }
-    public static Monster getMonster() { return monster; }
-
-    private static void carve(int x,int y,int[][] m){
-        int[] d={0,1,2,3};
-        shuffle(d);
-        m[y][x]=0;
-        for(int i:d){
-            int dx=(i==0?1:i==1?-1:0)*2;
-            int dy=(i==2?1:i==3?-1:0)*2;
-            int nx=x+dx, ny=y+dy;
-            if(ny>0&&nx>0&&ny<m.length-1&&nx<m[0].length-1&&m[ny][nx]==1){
-                m[y+dy/2][x+dx/2]=0;
-                carve(nx,ny,m);
-            }
-        }
-    }
-
-    private static List<Point> findPath(int[][] m,int sx,int sy,int ex,int ey){
-        boolean[][] v=new boolean[m.length][m[0].length];
-        Point[][] p=new Point[m.length][m[0].length];
-        Queue<Point> q=new ArrayDeque<>();
-        q.add(new Point(sx,sy));
-        v[sy][sx]=true;
-
-        int[] dx={1,-1,0,0}, dy={0,0,1,-1};
-
-        while(!q.isEmpty()){
-            Point c=q.poll();
-            if(c.x==ex&&c.y==ey) break;
-            for(int i=0;i<4;i++){
-                int nx=c.x+dx[i], ny=c.y+dy[i];
-                if(nx<0||ny<0||nx>=m[0].length||ny>=m.length||v[ny][nx]||m[ny][nx]==1) continue;
-                v[ny][nx]=true;
-                p[ny][nx]=c;
-                q.add(new Point(nx,ny));
-            }
-        }
-
-        List<Point> path=new ArrayList<>();
-        for(Point cur=new Point(ex,ey);cur!=null;cur=p[cur.y][cur.x])
-            path.add(cur);
-        Collections.reverse(path);
-        return path;
-    }
-
-    private static void shuffle(int[] a){
-        Random r=new Random();
-        for(int i=0;i<a.length;i++){
-            int j=r.nextInt(a.length);
-            int t=a[i]; a[i]=a[j]; a[j]=t;
-        }
-    }
-}
\ No newline at end of file
+package com.game;
+
+import java.awt.Point;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+// 크기/아이템 수/알고리즘을 정해 두고 시드마다 Maze를 만듦. 상태가 없어서 여러 스레드가 같이 써도 됨
+public class MazeGenerator {
+
+    public static final int ITEM_COUNT = 8;
+
+    public final int width, height;
+    public final int itemCount;
+    public final MazeAlgorithm algorithm;
+    public final ItemPlacer placer;
+
+    public MazeGenerator(int width, int height) {
+        this(width, height, ITEM_COUNT, MazeAlgorithm.BACKTRACKER);
+    }
+
+    public MazeGenerator(int width, int height, int itemCount, MazeAlgorithm algorithm) {
+        this(width, height, itemCount, algorithm, ItemPlacer.DEFAULT);
+    }
+
+    public MazeGenerator(int width, int height, int itemCount, MazeAlgorithm algorithm, ItemPlacer placer) {
+        this.width = width;
+        this.height = height;
+        this.itemCount = itemCount;
+        this.algorithm = algorithm;
+        this.placer = placer;
+    }
+
+    // 같은 seed면 같은 미로, 아이템 배치가 나옴.
+    // 파기와 아이템 배치는 seed에서 갈라낸 서로 다른 난수열을 써서 한쪽이 바뀌어도 다른 쪽은 그대로
+    public Maze generate(long seed) {
+        SplittableRandom root = new SplittableRandom(seed);
+        return generate(seed, root.split(), root.split());
+    }
+
+    // seed에서 count개의 시드를 뽑아 threads개 스레드로 동시에 만듦 (대회용 미로 묶음 등).
+    // i번째 미로는 generate(seeds[i])와 같고 스레드 수와 상관없이 같음
+    public Maze[] generateAll(long seed, int count, int threads) throws InterruptedException {
+        SplittableRandom root = new SplittableRandom(seed);
+        long[] seeds = new long[count];
+        for (int i = 0; i < count; i++) seeds[i] = root.nextLong();
+
+        Maze[] mazes = new Maze[count];
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            int i;
+            while ((i = next.getAndIncrement()) < count) {
+                mazes[i] = generate(seeds[i]);
+            }
+        };
+
+        Thread[] pool = new Thread[Math.max(1, Math.min(threads, count))];
+        for (int t = 0; t < pool.length; t++) {
+            pool[t] = new Thread(worker, "maze-gen-" + t);
+            pool[t].start();
+        }
+        for (Thread t : pool) t.join();
+        return mazes;
+    }
+
+    // generate(seed)와 같은 칸만 파서 돌려줌 (출구 표시 포함). 탈출 경로와 아이템은 계산하지 않음
+    // (벤치마크에서 파기만 잴 때)
+    public MazeGrid carve(long seed) {
+        return carve(new SplittableRandom(seed).split());
+    }
+
+    // 시작 칸 (1, 1)에서 출구까지 최단 경로
+    public List<Point> escapePath(MazeGrid m) {
+        return findPath(m, 1, 1, width - 2, height - 2);
+    }
+
+    // 탈출 경로를 기준으로 아이템 칸(MazeGrid.index)들을 고름 (ItemPlacer)
+    public int[] placeItems(MazeGrid m, List<Point> escapePath, RandomGenerator itemRandom) {
+        int[] path = new int[escapePath.size()];
+        for (int i = 0; i < path.length; i++) path[i] = m.index(escapePath.get(i).x, escapePath.get(i).y);
+        return placer.place(m, 1, 1, path, itemCount, itemRandom);
+    }
+
+    private MazeGrid carve(RandomGenerator carveRandom) {
+        MazeGrid m = new MazeGrid(width, height);
+        algorithm.carve(m, carveRandom);
+        m.set(width - 2, height - 2, MazeGrid.EXIT);
+        return m;
+    }
+
+    private Maze generate(long seed, RandomGenerator carveRandom, RandomGenerator itemRandom) {
+        int w = width, h = height;
+        MazeGrid m = carve(carveRandom);
+        List<Point> escapePath = escapePath(m);
+        int[] itemCells = placeItems(m, escapePath, itemRandom);
+
+        int[] itemX = new int[itemCells.length];
+        int[] itemY = new int[itemCells.length];
+        ItemType[] types = new ItemType[itemCells.length];
+        ItemType[] values = ItemType.values();
+        for (int i=0;i<itemCells.length;i++) {
+            itemX[i] = m.xOf(itemCells[i]);
+            itemY[i] = m.yOf(itemCells[i]);
+            types[i] = values[itemRandom.nextInt(values.length)];
+        }
+
+        // 몬스터를 플레이어 정확한 시작 위치에 생성 (1.5, 1.5)
+        return new Maze(seed, algorithm, m, w-2, h-2, escapePath, 1.5, 1.5, 1.5, 1.5, itemX, itemY, types);
+    }
+
+    // BFS 최단 경로. 방문/부모는 칸 번호 배열 하나로 (-1 = 방문 안 함)
+    // 둘레가 벽으로 덧대져 있어서 이웃 칸 범위 검사가 없음
+    static List<Point> findPath(MazeGrid m, int sx, int sy, int ex, int ey) {
+        byte[] cells = m.cells;
+        int[] offsets = {1, -1, m.stride, -m.stride};
+
+        int[] parent = new int[cells.length];
+        int[] queue = new int[cells.length];
+        Arrays.fill(parent, -1);
+
+        int start = m.index(sx, sy);
+        int end = m.index(ex, ey);
+        int head = 0, tail = 0;
+        queue[tail++] = start;
+        parent[start] = start;
+
+        while (head < tail) {
+            int c = queue[head++];
+            if (c == end) break;
+            for (int i = 0; i < 4; i++) {
+                int n = c + offsets[i];
+                if (cells[n] == MazeGrid.WALL || parent[n] != -1) continue;
+                parent[n] = c;
+                queue[tail++] = n;
+            }
+        }
+
+        // 끝에서 시작까지 따라간 뒤 뒤집음. 닿지 못했으면 끝 칸 하나만
+        List<Point> path = new ArrayList<>();
+        for (int cur = end; ; cur = parent[cur]) {
+            path.add(new Point(m.xOf(cur), m.yOf(cur)));
+            if (cur == start || parent[cur] == -1) break;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+}
@@ -0,0 +1,90 @@
+package com.game;
+
+import java.util.Arrays;
+
+// 미로 칸 배열. 칸 하나에 1바이트, 행 우선 1차원 배열에 둘레 1칸을 벽으로 덧대서 저장.
+// 덧댄 벽 덕분에 (-1..width, -1..height) 범위는 범위 검사 없이 읽을 수 있음
+// 무한 모드에서는 월드 일부를 잘라 담는 창으로도 씀. 이때 좌표는 월드 좌표이고 origin이 창의 왼쪽 위
+public class MazeGrid implements MazeMap {
+
+    public static final byte FLOOR = 0;
+    public static final byte WALL = 1;
+    public static final byte EXIT = 2;
+
+    public final int width, height;  // 덧댄 칸을 뺀 크기
+    public final int stride;         // 한 행의 길이 (width + 2)
+    public final byte[] cells;
+
+    public int originX, originY;  // 격자 (0, 0) 칸의 월드 좌표 (보통 0)
+
+    // 전부 벽인 격자
+    public MazeGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.stride = width + 2;
+        this.cells = new byte[stride * (height + 2)];
+        Arrays.fill(cells, WALL);
+    }
+
+    // (x, y) 칸의 배열 위치. 오른쪽 이웃은 +1, 아래 이웃은 +stride
+    public int index(int x, int y) {
+        return (y - originY + 1) * stride + x - originX + 1;
+    }
+
+    public int xOf(int index) {
+        return index % stride - 1 + originX;
+    }
+
+    public int yOf(int index) {
+        return index / stride - 1 + originY;
+    }
+
+    @Override
+    public byte get(int x, int y) {
+        return cells[index(x, y)];
+    }
+
+    public void set(int x, int y, byte value) {
+        cells[index(x, y)] = value;
+    }
+
+    // 격자 전체가 이미 메모리에 있으므로 창을 따로 만들지 않음
+    @Override
+    public MazeGrid around(int x, int y, MazeGrid window) {
+        return this;
+    }
+
+    // (x, y)를 가운데로 window를 옮기고 이 격자와 겹치는 부분을 행 단위로 복사. 격자 밖은 벽
+    // (around와 달리 항상 창에 담음. 미로 전체 크기의 작업 버퍼를 두기 싫은 곳에서 씀)
+    public MazeGrid copyAround(int x, int y, MazeGrid window) {
+        window.originX = x - window.width / 2;
+        window.originY = y - window.height / 2;
+        Arrays.fill(window.cells, WALL);
+
+        int x0 = Math.max(window.originX, originX), x1 = Math.min(window.originX + window.width, originX + width);
+        int y0 = Math.max(window.originY, originY), y1 = Math.min(window.originY + window.height, originY + height);
+        for (int wy = y0; wy < y1 && x0 < x1; wy++) {
+            System.arraycopy(cells, index(x0, wy), window.cells, window.index(x0, wy), x1 - x0);
+        }
+        return window;
+    }
+
+    // 미로 알고리즘의 방 = 홀수 좌표 칸. 방 번호는 행 우선 (가로 roomCols()개)
+    public int roomCols() {
+        return (width - 1) / 2;
+    }
+
+    public int roomRows() {
+        return (height - 1) / 2;
+    }
+
+    // 방 번호 -> 배열 위치. 이웃한 두 방 사이 벽은 두 위치의 가운데 ((a + b) / 2)
+    public int roomIndex(int room) {
+        int cols = roomCols();
+        return (room / cols * 2 + 2) * stride + room % cols * 2 + 2;
+    }
+
+    public boolean inside(int x, int y) {
+        return x >= originX && y >= originY && x < originX + width && y < originY + height;
+    }
+}
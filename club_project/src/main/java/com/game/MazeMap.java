@@ -0,0 +1,13 @@
+package com.game;
+
+// 미로 읽기. 고정 크기 미로(MazeGrid)와 무한 모드의 조각 미로(ChunkedMaze)가 구현함
+public interface MazeMap {
+
+    // (x, y) 칸. MazeGrid는 둘레 한 칸 밖까지만 읽을 수 있음
+    byte get(int x, int y);
+
+    // (x, y)를 가운데로 window 크기만큼의 영역을 담은 격자. 레이캐스트와 BFS처럼
+    // 한 번에 많은 칸을 읽는 곳은 이걸 받아서 배열을 직접 읽음.
+    // 전체가 메모리에 있는 미로는 자기 자신을 돌려주고 window는 쓰지 않음
+    MazeGrid around(int x, int y, MazeGrid window);
+}
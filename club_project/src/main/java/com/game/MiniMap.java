@@ -0,0 +1,180 @@
+package com.game;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+// 미니맵: 벽/바닥/출구는 이미지 한 장으로 한 번만 그리고,
+// 아이템/경로 레이어는 아이템을 먹거나 경로 표시가 바뀔 때만 다시 그림
+public class MiniMap {
+
+    public static final int SIZE = 180;
+
+    private static final Color BACKGROUND = new Color(0, 0, 0, 150);
+    private static final Color PATH_COLOR = new Color(255, 0, 0, 180);
+    private static final Color ITEM_STAMINA = new Color(0x66FF66);
+    private static final Color ITEM_FREEZE = new Color(0xFFFF66);
+    private static final Color ITEM_FLASHLIGHT = new Color(0x66AAFF);
+
+    private static final int PAD = 6;
+
+    private final List<Item> items;
+    private final List<Point> escapePath;
+
+    private MazeGrid map;
+    private int cell;
+
+    private BufferedImage staticLayer;
+    private BufferedImage overlayLayer;
+    private Graphics2D overlayGraphics;  // 아이템을 먹을 때마다 다시 그리므로 한 번만 만들어 둠
+
+    // 몬스터(X + 원)와 플레이어(점) 표시. 도형을 매 프레임 그리면 Java2D가 할당하므로 한 번 그려 두고 복사만 함
+    private static final int MONSTER_R = 6, PLAYER_R = 4;
+    private static final BufferedImage MONSTER_MARK = monsterMark();
+    private static final BufferedImage PLAYER_MARK = playerMark();
+    private static final int ITEM_R = 3;
+    private static final BufferedImage[] ITEM_MARKS = {
+            itemMark(ITEM_STAMINA), itemMark(ITEM_FREEZE), itemMark(ITEM_FLASHLIGHT)};
+
+    // overlay를 마지막으로 그린 상태
+    private int overlayCollected = -1;
+    private boolean overlayShowPath = false;
+
+    public MiniMap(MazeGrid map, List<Item> items, List<Point> escapePath) {
+        this.items = items;
+        this.escapePath = escapePath;
+        setMap(map);
+    }
+
+    // 맵이 바뀌면 정적 레이어를 다시 만듦
+    public void setMap(MazeGrid map) {
+        this.map = map;
+        this.cell = SIZE / map.height;
+        staticLayer = null;
+        overlayCollected = -1;
+    }
+
+    public void draw(Graphics g, int ox, int oy, WorldSnapshot snap) {
+        if (staticLayer == null) buildStaticLayer();
+
+        int collected = snap.collectedCount;
+        boolean showPath = snap.showPath;
+        if (overlayLayer == null || collected != overlayCollected || showPath != overlayShowPath) {
+            buildOverlay(snap);
+            overlayCollected = collected;
+            overlayShowPath = showPath;
+        }
+
+        g.drawImage(staticLayer, ox - PAD, oy - PAD, null);
+        g.drawImage(overlayLayer, ox - PAD, oy - PAD, null);
+
+        // 몬스터와 플레이어는 매 프레임 움직이므로 표시만 옮겨 찍음
+        if (snap.monsterSpawned) {
+            int mx = (int)(snap.monsterX * cell);
+            int my = (int)(snap.monsterY * cell);
+            g.drawImage(MONSTER_MARK, ox + mx - MONSTER_R, oy + my - MONSTER_R, null);
+        }
+
+        int px = (int)(snap.camX * cell);
+        int py = (int)(snap.camY * cell);
+        g.drawImage(PLAYER_MARK, ox + px - PLAYER_R, oy + py - PLAYER_R, null);
+    }
+
+    private static BufferedImage monsterMark() {
+        int r = MONSTER_R;
+        BufferedImage image = new BufferedImage(r * 2 + 1, r * 2 + 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.RED);
+        g.drawLine(r - 5, r - 5, r + 5, r + 5);
+        g.drawLine(r + 5, r - 5, r - 5, r + 5);
+        g.setColor(Color.WHITE);
+        g.drawOval(0, 0, r * 2, r * 2);
+        g.dispose();
+        return image;
+    }
+
+    private static BufferedImage itemMark(Color color) {
+        BufferedImage image = new BufferedImage(ITEM_R * 2 + 1, ITEM_R * 2 + 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(color);
+        g.fillOval(0, 0, ITEM_R * 2, ITEM_R * 2);
+        g.dispose();
+        return image;
+    }
+
+    private static BufferedImage playerMark() {
+        int r = PLAYER_R;
+        BufferedImage image = new BufferedImage(r * 2 + 1, r * 2 + 1, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.RED);
+        g.fillOval(0, 0, r * 2, r * 2);
+        g.setColor(Color.WHITE);
+        g.drawOval(0, 0, r * 2, r * 2);
+        g.dispose();
+        return image;
+    }
+
+    private BufferedImage newLayer() {
+        return new BufferedImage(SIZE + PAD * 2, SIZE + PAD * 2, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    private void buildStaticLayer() {
+        staticLayer = newLayer();
+        Graphics2D g = staticLayer.createGraphics();
+
+        g.setColor(BACKGROUND);
+        g.fillRoundRect(0, 0, SIZE + PAD * 2, SIZE + PAD * 2, 10, 10);
+
+        for (int y = 0; y < map.height; y++) {
+            for (int x = 0; x < map.width; x++) {
+                byte c = map.get(x, y);
+                if (c == MazeGrid.WALL) g.setColor(Color.DARK_GRAY);
+                else if (c == MazeGrid.EXIT) g.setColor(Color.GREEN);
+                else g.setColor(Color.LIGHT_GRAY);
+                g.fillRect(PAD + x * cell, PAD + y * cell, cell, cell);
+
+                if (c == MazeGrid.EXIT) {
+                    g.setColor(Color.YELLOW);
+                    g.drawRect(PAD + x * cell, PAD + y * cell, cell - 1, cell - 1);
+                }
+            }
+        }
+        g.dispose();
+    }
+
+    private void buildOverlay(WorldSnapshot snap) {
+        if (overlayLayer == null) {
+            overlayLayer = newLayer();
+            overlayGraphics = overlayLayer.createGraphics();
+        }
+        Graphics2D g = overlayGraphics;
+
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, overlayLayer.getWidth(), overlayLayer.getHeight());
+        g.setComposite(AlphaComposite.SrcOver);
+
+        for (int i = 0; i < items.size(); i++) {
+            if (snap.itemCollected[i]) continue;
+            Item it = items.get(i);
+            int ix = (int)(it.x * cell);
+            int iy = (int)(it.y * cell);
+            BufferedImage mark = switch (it.type) {
+                case STAMINA -> ITEM_MARKS[0];
+                case FREEZE -> ITEM_MARKS[1];
+                case FLASHLIGHT -> ITEM_MARKS[2];
+            };
+            g.drawImage(mark, PAD + ix - ITEM_R, PAD + iy - ITEM_R, null);
+        }
+
+        // 플레이어에게만 showPath일 때 경로 표시
+        if (snap.showPath && escapePath != null) {
+            g.setColor(PATH_COLOR);
+            for (int i = 0; i < escapePath.size() - 1; i++) {
+                Point a = escapePath.get(i);
+                Point b = escapePath.get(i + 1);
+                g.drawLine(PAD + a.x * cell + cell/2, PAD + a.y * cell + cell/2,
+                        PAD + b.x * cell + cell/2, PAD + b.y * cell + cell/2);
+            }
+        }
+    }
+}
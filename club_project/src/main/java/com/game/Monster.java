@@ -1,133 +1,117 @@
-package com.game;
-
-import java.awt.Point;
-import java.util.*;
-
-public class Monster {
-    public double x, y;
-    public double rot;
-    public boolean frozen = false;
-    public double freezeTime = 0.0;
-
-    private double spawnDelay = 10.0;
-    public boolean spawned = false;
-
-    private static final double FOLLOW_SPEED = 0.042;
-
-    private static final double GRAB_RANGE_SQ = 0.09;
-    private static final double FOV_HALF = Math.PI / 3.0;
-
-    private List<Point> currentPath = new ArrayList<>();
-    private int pathIndex = 0;
-
-    private double pathUpdateTimer = 0.0;
-    private static final double PATH_UPDATE_INTERVAL = 0.5;  // 0.5초마다 재계산
-
-    public Monster(double x, double y) {
-        this.x = x;
-        this.y = y;
-    }
-
-    public void update(int[][] map, Camera cam, double dt) {
-        if (!spawned) {
-            spawnDelay -= dt;
-            if (spawnDelay <= 0.0) {
-                spawned = true;
-            }
-            return;
-        }
-
-        if (frozen) {
-            freezeTime -= dt;
-            if (freezeTime <= 0.0) {
-                frozen = false;
-            }
-            return;
-        }
-
-        // 경로 재계산 타이머
-        pathUpdateTimer += dt;
-        if (pathUpdateTimer >= PATH_UPDATE_INTERVAL) {
-            pathUpdateTimer = 0.0;
-            currentPath = findPath(map, (int)x, (int)y, (int)cam.x, (int)cam.y);
-            pathIndex = 0;
-        }
-
-        if (currentPath == null || currentPath.isEmpty() || pathIndex >= currentPath.size()) {
-            return;
-        }
-
-        Point target = currentPath.get(pathIndex);
-        double targetX = target.x + 0.5;
-        double targetY = target.y + 0.5;
-
-        double dx = targetX - x;
-        double dy = targetY - y;
-        double dist = Math.hypot(dx, dy);
-
-        if (dist < 0.2) {
-            pathIndex++;
-        } else {
-            rot = Math.atan2(dy, dx);
-            x += (dx / dist) * FOLLOW_SPEED;
-            y += (dy / dist) * FOLLOW_SPEED;
-        }
-    }
-
-    // BFS로 최단 경로 찾기 (MazeGenerator의 findPath와 동일)
-    private List<Point> findPath(int[][] m, int sx, int sy, int ex, int ey) {
-        if (sx < 0 || sy < 0 || sx >= m[0].length || sy >= m.length) return null;
-
-        boolean[][] visited = new boolean[m.length][m[0].length];
-        Point[][] parent = new Point[m.length][m[0].length];
-        Queue<Point> q = new ArrayDeque<>();
-
-        q.add(new Point(sx, sy));
-        visited[sy][sx] = true;
-
-        int[] dx = {1, -1, 0, 0};
-        int[] dy = {0, 0, 1, -1};
-
-        while (!q.isEmpty()) {
-            Point c = q.poll();
-            if (c.x == ex && c.y == ey) {
-                // 경로 재구성
-                List<Point> path = new ArrayList<>();
-                for (Point cur = new Point(ex, ey); cur != null; cur = parent[cur.y][cur.x]) {
-                    path.add(cur);
-                }
-                Collections.reverse(path);
-                return path;
-            }
-
-            for (int i = 0; i < 4; i++) {
-                int nx = c.x + dx[i];
-                int ny = c.y + dy[i];
-                if (nx >= 0 && ny >= 0 && nx < m[0].length && ny < m.length &&
-                        !visited[ny][nx] && m[ny][nx] != 1) {
-                    visited[ny][nx] = true;
-                    parent[ny][nx] = c;
-                    q.add(new Point(nx, ny));
-                }
-            }
-        }
-        return new ArrayList<>();  // 경로 없으면 빈 리스트
-    }
-
-    public boolean canGrab(Camera cam) {
-        if (!spawned || frozen) return false;
-
-        double dx = cam.x - x;
-        double dy = cam.y - y;
-        double distSq = dx * dx + dy * dy;
-
-        if (distSq > GRAB_RANGE_SQ) return false;
-
-        double forwardX = Math.cos(rot);
-        double forwardY = Math.sin(rot);
-        double dot = (dx * forwardX + dy * forwardY) / Math.sqrt(distSq);
-        dot = Math.max(-1.0, Math.min(1.0, dot));
-
-        return Math.acos(dot) < FOV_HALF;
-    }
+package com.game;
+
+public class Monster {
+    public double x, y;
+    public double rot;
+    public boolean frozen = false;
+    public double freezeTime = 0.0;
+
+    public static final double SPAWN_DELAY = 10.0;
+    public static final double FOLLOW_SPEED = 0.042;
+
+    // 밸런스 조정용 (BatchSimulator). 기본값은 위 상수
+    public double spawnDelay = SPAWN_DELAY;  // 남은 등장 대기 시간(초)
+    public double followSpeed = FOLLOW_SPEED;  // 틱당 이동 칸 수
+
+    public boolean spawned = false;
+
+    private static final double GRAB_RANGE_SQ = 0.09;
+    private static final double FOV_HALF = Math.PI / 3.0;
+
+    // 플레이어까지의 걸음 수 표. Simulation이 하나 만들어 모든 몬스터에게 넣어 줌 (없으면 처음 쫓을 때 만듦)
+    public FlowField flow;
+
+    // 지금 향하는 칸 (월드 좌표). 가운데에 닿으면 표에서 다음 칸을 고름
+    private boolean hasTarget = false;
+    private int targetX, targetY;
+
+    public long pathNanos = 0;  // 이번 update에서 표를 다시 만드는 데 걸린 시간 (안 했으면 0)
+
+    public Monster(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public void update(MazeMap map, Camera cam, double dt) {
+        pathNanos = 0;
+        if (!spawned) {
+            spawnDelay -= dt;
+            if (spawnDelay <= 0.0) {
+                spawned = true;
+            }
+            return;
+        }
+
+        if (frozen) {
+            freezeTime -= dt;
+            if (freezeTime <= 0.0) {
+                frozen = false;
+            }
+            return;
+        }
+
+        if (flow == null) flow = new FlowField();
+
+        // 표는 플레이어가 다른 칸으로 넘어갔거나 이 몬스터가 표 밖일 때만 다시 만들어짐
+        // (같은 틱의 다른 몬스터는 그대로 읽음)
+        long t0 = System.nanoTime();
+        if (flow.update(map, cam.x, cam.y, x, y)) {
+            pathNanos = System.nanoTime() - t0;
+        }
+
+        if (flow.distance((int) x, (int) y) < 0) {
+            lose(cam);
+            return;
+        }
+
+        if (!hasTarget) {
+            targetX = (int) x;
+            targetY = (int) y;
+            hasTarget = true;
+        }
+
+        double dx = targetX + 0.5 - x;
+        double dy = targetY + 0.5 - y;
+        double dist = Math.hypot(dx, dy);
+
+        if (dist < 0.2) {
+            // 이웃 네 칸만 보고 플레이어 쪽 칸을 고름. 플레이어 칸이면 멈춤
+            int dir = flow.step(targetX, targetY);
+            if (dir >= 0) {
+                targetX += FlowField.DX[dir];
+                targetY += FlowField.DY[dir];
+            }
+        } else {
+            rot = Math.atan2(dy, dx);
+            x += (dx / dist) * followSpeed;
+            y += (dy / dist) * followSpeed;
+        }
+    }
+
+    // 가장 큰 표(FlowField.MAX_RADIUS)에도 없을 만큼 떨어짐 = 플레이어를 놓침. 벽을 뚫고 쫓지 않고
+    // 처음 등장할 때처럼 플레이어가 지금 있는 칸에서 SPAWN_DELAY 뒤에 다시 나타남
+    private void lose(Camera cam) {
+        spawned = false;
+        spawnDelay = SPAWN_DELAY;
+        x = (int) cam.x + 0.5;
+        y = (int) cam.y + 0.5;
+        hasTarget = false;
+    }
+
+    public boolean canGrab(Camera cam) {
+        if (!spawned || frozen) return false;
+
+        double dx = cam.x - x;
+        double dy = cam.y - y;
+        double distSq = dx * dx + dy * dy;
+
+        if (distSq > GRAB_RANGE_SQ) return false;
+
+        double forwardX = Math.cos(rot);
+        double forwardY = Math.sin(rot);
+        double dot = (dx * forwardX + dy * forwardY) / Math.sqrt(distSq);
+        dot = Math.max(-1.0, Math.min(1.0, dot));
+
+        return Math.acos(dot) < FOV_HALF;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.game;
+
+import java.awt.*;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+// F3 성능 오버레이: 단계별 평균/최대와 최근 샘플의 시간 분포(로그 구간 히스토그램), GC 횟수
+public class PerfOverlay {
+
+    // 구간 b는 [2^b, 2^(b+1)) 마이크로초. 마지막 구간은 32ms 이상 전부
+    private static final int BUCKETS = 16;
+    private static final int BAR_W = 8;
+    private static final int BAR_H = 24;
+    private static final int ROW_H = 40;
+    private static final int WIDTH = 330;
+
+    private static final Font FONT = new Font("Monospaced", Font.PLAIN, 12);
+    private static final Color BACKGROUND = new Color(0, 0, 0, 170);
+    private static final Color BAR = new Color(120, 200, 255);
+
+    private final PerfStats stats;
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+    private final int[] histogram = new int[BUCKETS];
+    private final char[] text = new char[64];
+
+    public PerfOverlay(PerfStats stats) {
+        this.stats = stats;
+    }
+
+    public void draw(Graphics g, int x, int y) {
+        int height = PerfStats.COUNT * ROW_H + (collectors.size() + 1) * 16 + 12;
+        g.setColor(BACKGROUND);
+        g.fillRect(x, y, WIDTH, height);
+        g.setFont(FONT);
+
+        int row = y + 16;
+        for (int p = 0; p < PerfStats.COUNT; p++) {
+            drawPhase(g, p, x + 8, row);
+            row += ROW_H;
+        }
+
+        g.setColor(Color.WHITE);
+        int n = Hud.appendText(text, 0, "vignette: fused into walls/sprites");
+        g.drawChars(text, 0, n, x + 8, row);
+        row += 16;
+
+        for (int i = 0; i < collectors.size(); i++) {
+            GarbageCollectorMXBean gc = collectors.get(i);
+            n = Hud.appendText(text, 0, "GC ");
+            n = Hud.appendText(text, n, gc.getName());
+            n = Hud.appendText(text, n, ": ");
+            n = Hud.appendNumber(text, n, gc.getCollectionCount());
+            n = Hud.appendText(text, n, " (");
+            n = Hud.appendNumber(text, n, gc.getCollectionTime());
+            n = Hud.appendText(text, n, "ms)");
+            g.drawChars(text, 0, n, x + 8, row);
+            row += 16;
+        }
+    }
+
+    private void drawPhase(Graphics g, int p, int x, int y) {
+        int size = stats.size(p);
+        long sum = 0, max = 0;
+        Arrays.fill(histogram, 0);
+        for (int i = 0; i < size; i++) {
+            long v = stats.get(p, i);
+            sum += v;
+            if (v > max) max = v;
+            histogram[bucket(v)]++;
+        }
+
+        // 이름, 평균, 최대 (ms, 소수 둘째 자리)
+        int n = Hud.appendText(text, 0, PerfStats.NAMES[p]);
+        while (n < 9) text[n++] = ' ';
+        n = Hud.appendText(text, n, "avg ");
+        n = appendMillis(text, n, size == 0 ? 0 : sum / size);
+        n = Hud.appendText(text, n, "  max ");
+        n = appendMillis(text, n, max);
+        g.setColor(Color.WHITE);
+        g.drawChars(text, 0, n, x, y);
+
+        int peak = 1;
+        for (int b = 0; b < BUCKETS; b++) peak = Math.max(peak, histogram[b]);
+
+        g.setColor(BAR);
+        int base = y + 4 + BAR_H;
+        for (int b = 0; b < BUCKETS; b++) {
+            int h = histogram[b] == 0 ? 0 : Math.max(1, histogram[b] * BAR_H / peak);
+            g.fillRect(x + b * BAR_W, base - h, BAR_W - 1, h);
+        }
+        g.setColor(Color.GRAY);
+        g.drawLine(x, base, x + BUCKETS * BAR_W, base);
+    }
+
+    private static int bucket(long nanos) {
+        long micros = nanos / 1000;
+        if (micros <= 0) return 0;
+        return Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros));
+    }
+
+    private static int appendMillis(char[] buf, int n, long nanos) {
+        long centis = (nanos + 5_000) / 10_000;
+        n = Hud.appendNumber(buf, n, centis / 100);
+        buf[n++] = '.';
+        buf[n++] = (char) ('0' + (centis / 10) % 10);
+        buf[n++] = (char) ('0' + centis % 10);
+        return Hud.appendText(buf, n, "ms");
+    }
+}
@@ -0,0 +1,76 @@
+package com.game;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 단계별 소요 시간 기록. 단계마다 고정 크기 링 버퍼를 미리 잡아두어 기록 중에는 할당이 없음
+// 렌더 단계는 렌더 스레드, TICK/PATHFIND는 시뮬레이션 스레드가 씀 (단계별로 쓰는 스레드는 하나)
+// 읽는 쪽(오버레이, CSV 복사)은 다른 스레드일 수 있으므로 샘플 수를 release로 쓰고 acquire로 읽음.
+// 그러면 읽은 샘플 수까지의 값은 다 보임. 읽는 도중 가장 오래된 칸이 새 샘플로 바뀔 수는 있음
+public class PerfStats {
+
+    public static final int WALLS = 0;     // 벽 raycast + 채우기 (vignette 곱셈 포함)
+    public static final int SPRITES = 1;   // 아이템, 몬스터 (vignette 곱셈 포함)
+    public static final int HUD = 2;       // 미니맵, 스태미나, 시간 (Java2D)
+    public static final int BLIT = 3;      // 확대 복사 + bs.show()
+    public static final int TICK = 4;      // 시뮬레이션 한 틱
+    public static final int PATHFIND = 5;  // 몬스터 flow field 다시 만들기 (다시 만든 틱만)
+    public static final int COUNT = 6;
+
+    public static final String[] NAMES = {"walls", "sprites", "hud", "blit", "tick", "pathfind"};
+
+    public static final int CAPACITY = 600;  // 60fps 기준 10초
+
+    private final long[][] samples = new long[COUNT][CAPACITY];
+    private final AtomicLongArray written = new AtomicLongArray(COUNT);  // 단계별 누적 샘플 수
+
+    public void record(int phase, long nanos) {
+        long n = written.getPlain(phase);  // 쓰는 스레드는 하나뿐
+        samples[phase][(int) (n % CAPACITY)] = nanos;
+        written.setRelease(phase, n + 1);
+    }
+
+    // 버퍼에 남아 있는 샘플 수
+    public int size(int phase) {
+        return (int) Math.min(written.getAcquire(phase), CAPACITY);
+    }
+
+    // i번째로 오래된 샘플 (0 <= i < size)
+    public long get(int phase, int i) {
+        long n = written.getAcquire(phase);
+        long first = n - Math.min(n, CAPACITY);
+        return samples[phase][(int) ((first + i) % CAPACITY)];
+    }
+
+    // 현재 버퍼 내용을 복사 (CSV를 다른 스레드에서 쓰기 위해). 샘플 수를 먼저 읽어야 그때까지의 값이 보임
+    public PerfStats copy() {
+        PerfStats c = new PerfStats();
+        for (int p = 0; p < COUNT; p++) {
+            long n = written.getAcquire(p);
+            System.arraycopy(samples[p], 0, c.samples[p], 0, CAPACITY);
+            c.written.setPlain(p, n);
+        }
+        return c;
+    }
+
+    // phase,seq,nanos 형식. seq는 단계별 누적 샘플 번호
+    public void writeCsv(Path file) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.println("phase,seq,nanos");
+            for (int p = 0; p < COUNT; p++) {
+                int size = size(p);
+                long first = written.getAcquire(p) - size;
+                for (int i = 0; i < size; i++) {
+                    out.print(NAMES[p]);
+                    out.print(',');
+                    out.print(first + i);
+                    out.print(',');
+                    out.println(get(p, i));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.game;
+
+import java.util.random.RandomGenerator;
+
+// 무작위 Prim: 미로에 붙은 칸(경계) 중 하나를 골라 이미 미로인 이웃 하나와 이음.
+// 시작점에서 방사형으로 퍼지고 짧은 막다른 길이 아주 많음
+public class PrimMaze implements MazeAlgorithm {
+
+    private static final byte OUT = 0, FRONTIER = 1, IN = 2;
+
+    @Override
+    public String name() {
+        return "prim";
+    }
+
+    @Override
+    public void carve(MazeGrid m, RandomGenerator r) {
+        int cols = m.roomCols();
+        int rows = m.roomRows();
+        int n = cols * rows;
+        if (n == 0) return;
+
+        byte[] state = new byte[n];
+        int[] frontier = new int[n];
+        int size = 0;
+        int[] candidates = new int[4];
+
+        int start = r.nextInt(n);
+        state[start] = IN;
+        m.cells[m.roomIndex(start)] = MazeGrid.FLOOR;
+        size = addFrontier(state, frontier, size, start, cols, rows);
+
+        while (size > 0) {
+            // 경계에서 아무거나 하나 꺼냄 (마지막 것과 바꿔서 O(1) 제거)
+            int k = r.nextInt(size);
+            int c = frontier[k];
+            frontier[k] = frontier[--size];
+
+            int cx = c % cols, cy = c / cols;
+            int found = 0;
+            if (cx > 0 && state[c - 1] == IN) candidates[found++] = c - 1;
+            if (cx + 1 < cols && state[c + 1] == IN) candidates[found++] = c + 1;
+            if (cy > 0 && state[c - cols] == IN) candidates[found++] = c - cols;
+            if (cy + 1 < rows && state[c + cols] == IN) candidates[found++] = c + cols;
+            int other = candidates[r.nextInt(found)];
+
+            int gc = m.roomIndex(c);
+            int go = m.roomIndex(other);
+            m.cells[gc] = MazeGrid.FLOOR;
+            m.cells[(gc + go) >> 1] = MazeGrid.FLOOR;
+            state[c] = IN;
+
+            size = addFrontier(state, frontier, size, c, cols, rows);
+        }
+    }
+
+    private static int addFrontier(byte[] state, int[] frontier, int size, int c, int cols, int rows) {
+        int cx = c % cols, cy = c / cols;
+        if (cx > 0) size = mark(state, frontier, size, c - 1);
+        if (cx + 1 < cols) size = mark(state, frontier, size, c + 1);
+        if (cy > 0) size = mark(state, frontier, size, c - cols);
+        if (cy + 1 < rows) size = mark(state, frontier, size, c + cols);
+        return size;
+    }
+
+    private static int mark(byte[] state, int[] frontier, int size, int c) {
+        if (state[c] != OUT) return size;
+        state[c] = FRONTIER;
+        frontier[size] = c;
+        return size + 1;
+    }
+}
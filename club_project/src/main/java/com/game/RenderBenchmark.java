@@ -0,0 +1,121 @@
+package com.game;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.List;
+
+// 헤드리스 렌더 벤치마크: 탈출 경로를 따라 카메라를 움직이며 화면 밖에서 N 프레임 렌더
+// 실행: java -Djava.awt.headless=true -cp target/classes com.game.RenderBenchmark frames=2000 threads=8
+// 옵션: frames, warmup, width, height, size(미로 크기), seed, threads
+public class RenderBenchmark {
+
+    private static final double CAMERA_SPEED = 0.05;  // 프레임당 이동하는 칸 수
+    private static final double MONSTER_AHEAD = 3.0;  // 몬스터를 카메라 앞 몇 칸에 둘지
+
+    public static void main(String[] args) {
+        int frames = CliArgs.intArg(args, "frames", 2000);
+        int warmup = CliArgs.intArg(args, "warmup", 500);
+        int width = CliArgs.intArg(args, "width", Game.WIDTH);
+        int height = CliArgs.intArg(args, "height", Game.HEIGHT);
+        int size = CliArgs.intArg(args, "size", 41);
+        long seed = CliArgs.longArg(args, "seed", 1);
+        int threads = CliArgs.intArg(args, "threads", 1);
+
+        Maze maze = new MazeGenerator(size, size).generate(seed);
+        List<Point> path = maze.escapePath;
+        List<Item> items = maze.newItems();
+
+        Monster monster = maze.newMonster();
+        monster.spawned = true;
+
+        Camera camera = new Camera(1.5, 1.5, 0);
+        camera.setMonster(monster);
+
+        Screen screen = new Screen(width, height, maze.grid, items);
+        screen.setThreads(threads);
+
+        WorldSnapshot snap = new WorldSnapshot(items.size());
+
+        long[] total = new long[frames];
+        long[][] phases = new long[Screen.PHASE_COUNT][frames];
+
+        for (int f = 0; f < warmup + frames; f++) {
+            place(camera, monster, path, f);
+            snap.capture(camera, items, 0);
+
+            long t0 = System.nanoTime();
+            screen.render(snap);
+            long elapsed = System.nanoTime() - t0;
+
+            int i = f - warmup;
+            if (i < 0) continue;
+            total[i] = elapsed;
+            for (int p = 0; p < Screen.PHASE_COUNT; p++) {
+                phases[p][i] = screen.getPhaseNanos(p);
+            }
+        }
+        screen.dispose();
+
+        System.out.printf("maze %dx%d seed=%d, %dx%d, threads=%d, frames=%d (warmup %d)%n",
+                size, size, seed, width, height, threads, frames, warmup);
+        System.out.printf("%-8s %9s %9s %9s %9s%n", "phase", "mean ms", "p50 ms", "p99 ms", "max ms");
+        report("walls", phases[Screen.PHASE_WALLS]);
+        report("sprites", phases[Screen.PHASE_SPRITES]);
+        report("total", total);
+    }
+
+    // 경로를 왕복하며 f 번째 프레임의 카메라/몬스터 위치를 정함
+    static void place(Camera camera, Monster monster, List<Point> path, int f) {
+        double t = pingPong(f * CAMERA_SPEED, path.size() - 1);
+        double ahead = pingPong(f * CAMERA_SPEED + MONSTER_AHEAD, path.size() - 1);
+
+        camera.x = pathX(path, t);
+        camera.y = pathY(path, t);
+
+        // 이동 방향을 바라봄
+        double look = pingPong(f * CAMERA_SPEED + 0.5, path.size() - 1);
+        double dx = pathX(path, look) - camera.x;
+        double dy = pathY(path, look) - camera.y;
+        if (dx != 0 || dy != 0) camera.rot = Math.atan2(dy, dx);
+
+        monster.x = pathX(path, ahead);
+        monster.y = pathY(path, ahead);
+    }
+
+    private static double pingPong(double t, double len) {
+        if (len <= 0) return 0;
+        double period = t % (len * 2);
+        return period <= len ? period : len * 2 - period;
+    }
+
+    private static double pathX(List<Point> path, double t) {
+        int i = Math.min((int) t, path.size() - 1);
+        int j = Math.min(i + 1, path.size() - 1);
+        return path.get(i).x + (path.get(j).x - path.get(i).x) * (t - i) + 0.5;
+    }
+
+    private static double pathY(List<Point> path, double t) {
+        int i = Math.min((int) t, path.size() - 1);
+        int j = Math.min(i + 1, path.size() - 1);
+        return path.get(i).y + (path.get(j).y - path.get(i).y) * (t - i) + 0.5;
+    }
+
+    private static void report(String name, long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+
+        double sum = 0;
+        for (long v : sorted) sum += v;
+
+        System.out.printf("%-8s %9.3f %9.3f %9.3f %9.3f%n", name,
+                sum / sorted.length / 1e6,
+                percentile(sorted, 0.50) / 1e6,
+                percentile(sorted, 0.99) / 1e6,
+                sorted[sorted.length - 1] / 1e6);
+    }
+
+    static double percentile(long[] sorted, double q) {
+        int i = (int) Math.ceil(q * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, i))];
+    }
+}
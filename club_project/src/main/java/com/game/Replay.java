@@ -0,0 +1,50 @@
+package com.game;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// 헤드리스 리플레이: 기록된 입력으로 시뮬레이션을 최대 속도로 돌리고 마지막 상태가 기록과 같은지 확인
+// 실행: java -cp target/classes com.game.Replay replays/last.replay repeat=20
+// 상태가 다르면 종료 코드 1
+public class Replay {
+
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(args.length > 0 && !args[0].contains("=") ? args[0] : Game.REPLAY_FILE);
+        int repeat = CliArgs.intArg(args, "repeat", 1);
+
+        InputRecording rec = InputRecording.load(file);
+        String maze = rec.endless() ? "endless" : rec.width + "x" + rec.height + " (" + rec.algorithm.name() + ")";
+        System.out.printf("%s: seed=%d, maze %s, %d ticks (%.1f초)%n", file, rec.seed,
+                maze, rec.ticks(), rec.ticks() * Simulation.DT);
+
+        boolean ok = true;
+        for (int r = 0; r < repeat; r++) {
+            Simulation sim = newSimulation(rec);
+
+            long t0 = System.nanoTime();
+            for (int i = 0; i < rec.ticks(); i++) {
+                sim.step(rec.keyFlags(i), rec.rotation(i), rec.showPath(i));
+            }
+            long elapsed = System.nanoTime() - t0;
+
+            long hash = sim.stateHash();
+            boolean same = hash == rec.finalHash;
+            ok &= same;
+
+            Camera c = sim.camera;
+            System.out.printf("#%d %.2f ms, %.0f ticks/s, player (%.4f, %.4f), escaped=%b, gameOver=%b, %s%n",
+                    r, elapsed / 1e6, rec.ticks() / (elapsed / 1e9), c.x, c.y, c.escaped, c.gameOver,
+                    same ? "일치" : "불일치 " + Long.toHexString(hash) + " != " + Long.toHexString(rec.finalHash));
+        }
+
+        if (!ok) System.exit(1);
+    }
+
+    // 기록과 같은 시드로 미로를 만들고 Game과 같은 초기 상태를 구성
+    static Simulation newSimulation(InputRecording rec) {
+        if (rec.endless()) return new ChunkedMaze(rec.seed).newSimulation();
+        MazeGenerator generator = new MazeGenerator(rec.width, rec.height, MazeGenerator.ITEM_COUNT, rec.algorithm);
+        return generator.generate(rec.seed).newSimulation();
+    }
+}
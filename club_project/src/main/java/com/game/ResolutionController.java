@@ -0,0 +1,87 @@
+package com.game;
+
+// 동적 해상도: 최근 프레임 시간을 보고 내부 렌더 배율을 낮추거나 올림
+// 목표 프레임 시간은 FramePacer 설정(miro.fps)을 따름
+public class ResolutionController {
+
+    // 프레임 제한이 없을 때(uncapped) 쓰는 목표: 60fps
+    private static final long UNCAPPED_TARGET_NANOS = 1_000_000_000L / 60;
+
+    // 배율은 0.1 단위 단계로 관리 (5 = 0.5배, 10 = 1.0배)
+    private static final int MIN_LEVEL = 5;
+    private static final int MAX_LEVEL = 10;
+
+    // 목표보다 이만큼 느리면 낮추고, 이만큼 여유가 있으면 올림
+    private static final double DOWN_RATIO = 1.05;
+    private static final double UP_RATIO = 0.7;
+
+    // 배율을 바꾼 뒤 다시 판단하기 전에 기다릴 프레임 수
+    private static final int COOLDOWN_FRAMES = 30;
+
+    // 가로 해상도를 맞출 단위 (Screen의 strip 폭 단위와 같음)
+    public static final int STRIP_ALIGN = 16;
+
+    // 지수 이동 평균 가중치
+    private static final double SMOOTHING = 0.1;
+
+    private final FramePacer pacer;
+    private double averageNanos;
+    private int level = MAX_LEVEL;
+    private int cooldown = COOLDOWN_FRAMES;
+    private boolean enabled = true;
+
+    public ResolutionController(FramePacer pacer) {
+        this.pacer = pacer;
+        this.averageNanos = targetNanos();
+    }
+
+    // 한 프레임에 쓸 수 있는 시간 (30fps면 33ms, 144fps면 6.9ms)
+    private double targetNanos() {
+        long frame = pacer.frameNanos();
+        return frame > 0 ? frame : UNCAPPED_TARGET_NANOS;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) level = MAX_LEVEL;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public double getScale() {
+        return level / 10.0;
+    }
+
+    // 프레임 하나의 작업 시간(렌더 + 출력)을 넘겨주면 다음 프레임 배율을 정함
+    public void frameFinished(long frameNanos) {
+        averageNanos += (frameNanos - averageNanos) * SMOOTHING;
+        if (!enabled) return;
+
+        if (cooldown > 0) {
+            cooldown--;
+            return;
+        }
+
+        double target = targetNanos();
+        if (averageNanos > target * DOWN_RATIO && level > MIN_LEVEL) {
+            level--;
+            cooldown = COOLDOWN_FRAMES;
+        } else if (averageNanos < target * UP_RATIO && level < MAX_LEVEL) {
+            level++;
+            cooldown = COOLDOWN_FRAMES;
+        }
+    }
+
+    // 출력 크기에 배율을 적용한 내부 해상도 (짝수로 맞춤)
+    public int scaled(int outputSize) {
+        return Math.max(2, (outputSize * level / 10) & ~1);
+    }
+
+    // 내부 해상도의 가로 (16픽셀 단위로 내림). 한 행이 64바이트의 배수여야 Screen의 16픽셀 strip이
+    // 모든 행에서 같은 캐시 라인 경계에 걸림 (행 길이가 어긋나면 행마다 이웃 strip과 라인을 나눠 씀)
+    public int scaledWidth(int outputWidth) {
+        return Math.max(STRIP_ALIGN, scaled(outputWidth) & -STRIP_ALIGN);
+    }
+}
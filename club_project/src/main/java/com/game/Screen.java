@@ -1,254 +1,554 @@
-package com.game;
-
-import java.awt.image.BufferedImage;
-import java.awt.image.DataBufferInt;
-import java.util.List;
-
-public class Screen {
-
-    private int width, height;
-    private int[][] map;
-    private List<Item> items;
-
-    private BufferedImage img;
-    private int[] pixels;
-
-    private static final double FOV = 0.6;
-    private static final double MAX_DIST = 15.0;
-
-    public Screen(int w, int h, int[][] map, List<Item> items) {
-        this.width = w;
-        this.height = h;
-        this.map = map;
-        this.items = items;
-
-        img = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-        pixels = ((DataBufferInt) img.getRaster().getDataBuffer()).getData();
-    }
-
-    public BufferedImage getImage() {
-        return img;
-    }
-
-    public void render(Camera cam) {
-        float[] zBuffer = new float[width];
-        for (int i = 0; i < width; i++) zBuffer[i] = Float.MAX_VALUE;
-
-        // 배경 완전 검정
-        for (int i = 0; i < pixels.length; i++) pixels[i] = 0x000000;
-
-        double cos = Math.cos(cam.rot);
-        double sin = Math.sin(cam.rot);
-
-        // 벽 raycasting
-        for (int x = 0; x < width; x++) {
-            double cx = 2.0 * x / width - 1.0;
-            double rayX = cos + cx * -sin * FOV;
-            double rayY = sin + cx * cos * FOV;
-
-            double dist = 0.0;
-            int hit = 0;
-            double hitX = 0, hitY = 0;
-
-            while (dist < MAX_DIST) {
-                dist += 0.03;
-                int mx = (int) (cam.x + rayX * dist);
-                int my = (int) (cam.y + rayY * dist);
-                if (mx < 0 || my < 0 || mx >= map[0].length || my >= map.length) break;
-                hit = map[my][mx];
-                hitX = mx + 0.5;
-                hitY = my + 0.5;
-                if (hit != 0) break;
-            }
-
-            double wallDist = Math.hypot(cam.x - hitX, cam.y - hitY);
-            zBuffer[x] = (float) Math.min(dist, wallDist);
-
-            int h = (int) (height / (dist + 0.0001));
-            int y1 = Math.max(0, height / 2 - h / 2);
-            int y2 = Math.min(height, height / 2 + h / 2);
-
-            int base = (hit == 2) ? 0x00CC00 : 0x666666;
-
-            double fog = Math.max(0, Math.min(1, dist / MAX_DIST - cam.flashlightBoost));
-
-            int r = (int) (((base >> 16) & 255) * (1 - fog));
-            int g = (int) (((base >> 8) & 255) * (1 - fog));
-            int b = (int) ((base & 255) * (1 - fog));
-            int col = (r << 16) | (g << 8) | b;
-
-            for (int y = y1; y < y2; y++) {
-                pixels[x + y * width] = col;
-            }
-        }
-
-        // 아이템 렌더링
-        renderItems(cam, zBuffer, cos, sin);
-
-        // 몬스터 렌더링
-        renderMonster(cam, zBuffer, cos, sin);
-
-        // 손전등 vignette 효과 (마지막에 적용)
-        applyFlashlightVignette(cam);
-    }
-
-    private void renderItems(Camera cam, float[] zBuffer, double cos, double sin) {
-        for (Item it : items) {
-            if (it.collected) continue;
-            it.update();
-
-            double dx = it.x - cam.x;
-            double dy = it.y - cam.y;
-
-            double perpDist = dx * cos + dy * sin;
-            if (perpDist < 0.05) continue;
-
-            double itemDist = Math.hypot(dx, dy);
-
-            double projX = (-dx * sin + dy * cos) / perpDist;
-            int sx = (int) (projX * (width / 2.0) + width / 2.0);
-
-            int size = (int) (350.0 / perpDist);
-            if (size < 8) continue;
-
-            int half = size / 2;
-            if (sx + half < 0 || sx - half >= width) continue;
-
-            int sy = height / 2 - half + (int) (Math.sin(it.bob) * 15);
-            if (sy + half < 0 || sy - half >= height) continue;
-
-            int color = switch (it.type) {
-                case STAMINA -> 0x66FF66;
-                case FREEZE -> 0xFFFF66;
-                case FLASHLIGHT -> 0x66AAFF;
-            };
-
-            // 아이템 본체 (원형)
-            for (int iy = -half; iy < half; iy++) {
-                for (int ix = -half; ix < half; ix++) {
-                    if (ix * ix + iy * iy > half * half * 0.8) continue;
-
-                    int px = sx + ix;
-                    int py = sy + iy;
-                    if (px >= 0 && px < width && py >= 0 && py < height) {
-                        if (itemDist < zBuffer[px]) {
-                            pixels[px + py * width] = color;
-                        }
-                    }
-                }
-            }
-
-            // 빛나는 테두리
-            int glow = 0xFFFFFF;
-            for (int i = 0; i < half; i += 3) {
-                int[] offsets = {i, -i};
-                for (int off : offsets) {
-                    int px1 = sx + off;
-                    int px2 = sx - off;
-                    int py1 = sy + off;
-                    int py2 = sy - off;
-
-                    if (px1 >= 0 && px1 < width && sy >= 0 && sy < height && itemDist < zBuffer[px1]) pixels[px1 + sy * width] = glow;
-                    if (px2 >= 0 && px2 < width && sy >= 0 && sy < height && itemDist < zBuffer[px2]) pixels[px2 + sy * width] = glow;
-                    if (sx >= 0 && sx < width && py1 >= 0 && py1 < height && itemDist < zBuffer[sx]) pixels[sx + py1 * width] = glow;
-                    if (sx >= 0 && sx < width && py2 >= 0 && py2 < height && itemDist < zBuffer[sx]) pixels[sx + py2 * width] = glow;
-                }
-            }
-        }
-    }
-
-    private void renderMonster(Camera cam, float[] zBuffer, double cos, double sin) {
-        Monster mon = cam.getMonster();
-        if (mon == null || !mon.spawned) return;  // 스폰 전에는 안 보dla
-
-        double dx = mon.x - cam.x;
-        double dy = mon.y - cam.y;
-
-        double perpDist = dx * cos + dy * sin;
-        if (perpDist < 0.1) return;
-
-        double monDist = Math.hypot(dx, dy);
-
-        double projX = (-dx * sin + dy * cos) / perpDist;
-        int sx = (int) (projX * (width / 2.0) + width / 2.0);
-
-        int size = (int) (400.0 / perpDist);
-        if (size < 10) return;
-
-        int half = size / 2;
-        if (sx + half < 0 || sx - half >= width) return;
-
-        int sy = height / 2 - half + 20;
-
-        int bodyColor = mon.frozen ? 0x444444 : 0x000000;
-        int eyeColor = mon.frozen ? 0x8888FF : 0xFF0000;
-
-        // 몸체
-        for (int iy = -half; iy < half; iy++) {
-            for (int ix = -half; ix < half; ix++) {
-                if (ix * ix + iy * iy > half * half) continue;
-                int px = sx + ix;
-                int py = sy + iy;
-                if (px >= 0 && px < width && py >= 0 && py < height) {
-                    if (monDist < zBuffer[px]) {
-                        pixels[px + py * width] = bodyColor;
-                    }
-                }
-            }
-        }
-
-        // 눈
-        int eyeSize = size / 6;
-        int eyeOffset = size / 4;
-        drawCircle(sx - eyeOffset, sy - eyeOffset / 2, eyeSize, eyeColor, monDist, zBuffer);
-        drawCircle(sx + eyeOffset, sy - eyeOffset / 2, eyeSize, eyeColor, monDist, zBuffer);
-    }
-
-    private void drawCircle(int cx, int cy, int radius, int color, double monDist, float[] zBuffer) {
-        for (int y = -radius; y <= radius; y++) {
-            for (int x = -radius; x <= radius; x++) {
-                if (x * x + y * y <= radius * radius) {
-                    int px = cx + x;
-                    int py = cy + y;
-                    if (px >= 0 && px < width && py >= 0 && py < height) {
-                        if (monDist < zBuffer[px]) {
-                            pixels[px + py * width] = color;
-                        }
-                    }
-                }
-            }
-        }
-    }
-
-    private void applyFlashlightVignette(Camera cam) {
-        int centerX = width / 2;
-        int centerY = height / 2;
-        double maxRadius = Math.hypot(centerX, centerY) * 0.9;
-
-        double boost = cam.flashlightBoost;
-
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                int idx = x + y * width;
-                int pixel = pixels[idx];
-
-                if (pixel == 0) continue;
-
-                double dx = x - centerX;
-                double dy = y - centerY;
-                double distFromCenter = Math.hypot(dx, dy);
-
-                double vignette = 1.0 - (distFromCenter / maxRadius);
-                vignette = Math.max(0, vignette);
-
-                double brightness = vignette * (0.6 + 0.4 * boost);
-
-                int r = (int) (((pixel >> 16) & 255) * brightness);
-                int g = (int) (((pixel >> 8) & 255) * brightness);
-                int b = (int) ((pixel & 255) * brightness);
-
-                pixels[idx] = (r << 16) | (g << 8) | b;
-            }
-        }
-    }
+package com.game;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+public class Screen {
+
+    private int width, height;
+    private MazeMap map;
+    private List<Item> items;
+
+    // 이번 프레임에 광선이 읽는 격자. 무한 모드에서는 카메라 주변만 잘라 온 창
+    private MazeGrid grid;
+    private final MazeGrid window;
+
+    private BufferedImage img;
+    private int[] pixels;
+
+    private static final double FOV = 0.6;
+    private static final double MAX_DIST = 15.0;
+    private static final int WINDOW_SIZE = 2 * (int) MAX_DIST + 5;  // 광선이 닿는 범위 + 여유
+
+    private static final double SPRITE_REF_HEIGHT = 720.0;
+
+    // 벽 텍스처
+    private final TextureAtlas textures = new TextureAtlas();
+    private final int[] texels = textures.texels();
+    private static final int SIDE_SHADE = 205;  // y 경계 면 밝기 (256 = 1.0)
+    private double spriteScale;
+
+    // 열마다 마지막 raycast 결과 (텍스처, 조명용)
+    private double[] hitDist;    // 카메라 평면까지의 수직 거리
+    private int[] hitCell;       // 맞은 칸의 값 (0 = 벽 없음)
+    private int[] hitSide;       // 0 = x 경계(동/서 면), 1 = y 경계(남/북 면)
+    private double[] hitOffset;  // 벽 면 위의 정확한 위치 [0, 1)
+
+    // 병렬 렌더링 (setThreads > 1 일 때만 사용)
+    private ForkJoinPool pool;
+    private StripTask[] strips;
+    private FrameTask frameTask;
+    private int stripPhase;
+
+    // 렌더 단계 (성능 측정용)
+    public static final int PHASE_WALLS = 0;    // 화면 지우기 + 벽 raycast + 채우기
+    public static final int PHASE_SPRITES = 1;  // 아이템, 몬스터
+    public static final int PHASE_COUNT = 2;
+    private final long[] phaseNanos = new long[PHASE_COUNT];
+
+    // 현재 프레임 상태 (strip 작업들이 같이 읽음)
+    private float[] zBuffer;
+    private WorldSnapshot frame;
+    private double frameCos, frameSin;
+    private int frameBright;  // 손전등 밝기 (256 = 1.0)
+
+    // 스프라이트 목록 (render에서 채우고 strip들이 읽기만 함)
+    private static final int SPRITE_ITEM = 0;
+    private static final int SPRITE_MONSTER = 1;
+
+    private int spriteCount;
+    private int[] spriteOrder, spriteX, spriteY, spriteHalf, spriteColor, spriteEyeColor, spriteKind;
+    private double[] spriteDepth;
+
+    // 반지름별 세로 span 표
+    private int[][] itemSpans, circleSpans;
+
+    // 손전등 vignette 마스크 (픽셀마다 0~255)
+    private byte[] vignette;
+
+    public Screen(int w, int h, MazeMap map, List<Item> items) {
+        this.map = map;
+        this.items = items;
+        this.window = new MazeGrid(WINDOW_SIZE, WINDOW_SIZE);
+
+        resize(w, h);
+    }
+
+    // 내부 렌더 해상도 변경. 해상도에 딸린 버퍼와 vignette 마스크를 다시 만듦
+    public void resize(int w, int h) {
+        if (img != null && w == width && h == height) return;
+
+        this.width = w;
+        this.height = h;
+
+        // 스프라이트 크기는 원래 높이(720) 기준 값을 비율로 맞춤
+        spriteScale = height / SPRITE_REF_HEIGHT;
+
+        img = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        pixels = ((DataBufferInt) img.getRaster().getDataBuffer()).getData();
+
+        hitDist = new double[width];
+        hitCell = new int[width];
+        hitSide = new int[width];
+        hitOffset = new double[width];
+        zBuffer = new float[width];
+
+        buildVignetteMask();
+        if (pool != null) buildStrips();
+    }
+
+    public BufferedImage getImage() {
+        return img;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    // 렌더 스레드 수 지정 (1 = 현재 스레드에서 직렬로)
+    public void setThreads(int threads) {
+        dispose();
+        if (threads <= 1) return;
+
+        pool = new ForkJoinPool(threads);
+        buildStrips();
+    }
+
+    private void buildStrips() {
+        int threads = pool.getParallelism();
+
+        // 한 열 묶음(strip)을 16픽셀(64바이트) 단위로 맞춰서
+        // 스레드끼리 같은 캐시 라인에 쓰는 일을 줄임. 모든 행에서 경계가 맞으려면 가로도 16의 배수여야 함
+        // (Game은 ResolutionController.scaledWidth로 맞춤)
+        int count = threads * 4;
+        int stripW = (width + count - 1) / count;
+        stripW = (stripW + ResolutionController.STRIP_ALIGN - 1) & -ResolutionController.STRIP_ALIGN;
+
+        List<StripTask> list = new ArrayList<>();
+        for (int x0 = 0; x0 < width; x0 += stripW) {
+            list.add(new StripTask(x0, Math.min(width, x0 + stripW)));
+        }
+        strips = list.toArray(new StripTask[0]);
+        frameTask = new FrameTask();
+    }
+
+    public void dispose() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+            strips = null;
+            frameTask = null;
+        }
+    }
+
+    public void render(WorldSnapshot snap) {
+        Arrays.fill(zBuffer, Float.MAX_VALUE);
+
+        frame = snap;
+        frameCos = Math.cos(snap.camRot);
+        frameSin = Math.sin(snap.camRot);
+        frameBright = (int) (256 * (0.6 + 0.4 * snap.flashlightBoost));
+        grid = map.around((int) snap.camX, (int) snap.camY, window);
+
+        if (pool == null) {
+            long t0 = System.nanoTime();
+            renderWalls(0, width);
+            long t1 = System.nanoTime();
+            collectSprites(snap, frameCos, frameSin);
+            renderSprites(0, width);
+            phaseNanos[PHASE_WALLS] = t1 - t0;
+            phaseNanos[PHASE_SPRITES] = System.nanoTime() - t1;
+        } else {
+            frameTask.reinitialize();
+            pool.invoke(frameTask);
+        }
+
+        frame = null;
+    }
+
+    // 마지막 render에서 단계별로 걸린 시간 (PHASE_*)
+    public long getPhaseNanos(int phase) {
+        return phaseNanos[phase];
+    }
+
+    // 열 범위 [x0, x1)만 그림. 열끼리 독립적이라 직렬/병렬 결과가 같음
+    private void renderWalls(int x0, int x1) {
+        WorldSnapshot snap = frame;
+        double cos = frameCos;
+        double sin = frameSin;
+
+        // 배경 완전 검정
+        for (int y = 0; y < height; y++) {
+            Arrays.fill(pixels, x0 + y * width, x1 + y * width, 0x000000);
+        }
+
+        // 벽 raycasting (DDA: 광선이 지나는 칸을 한 번씩만 검사)
+        for (int x = x0; x < x1; x++) {
+            double cx = 2.0 * x / width - 1.0;
+            double rayX = cos + cx * -sin * FOV;
+            double rayY = sin + cx * cos * FOV;
+
+            castRay(snap.camX, snap.camY, rayX, rayY, x);
+
+            double dist = hitDist[x];
+            zBuffer[x] = (float) dist;
+
+            int hit = hitCell[x];
+            if (hit == 0) continue;  // MAX_DIST 안에 벽 없음
+
+            // 수직 거리로 높이를 구해서 fisheye 왜곡 없음
+            int h = (int) (height / (dist + 0.0001));
+            int y1 = Math.max(0, height / 2 - h / 2);
+            int y2 = Math.min(height, height / 2 + h / 2);
+
+            double fog = Math.max(0, Math.min(1, dist / MAX_DIST - snap.flashlightBoost));
+
+            // 안개, 손전등 밝기, 면 방향(y 경계 면은 조금 어둡게)을 열 단위 밝기 하나로 합침
+            int bright = frameBright * (int) (256 * (1 - fog)) >> 8;
+            if (hitSide[x] == 1) bright = bright * SIDE_SHADE >> 8;
+
+            int span = (h / 2) * 2;
+            if (span <= 0) continue;
+
+            // 텍스처와 밉 단계 선택 (멀리 있는 좁은 벽은 작은 밉을 읽음)
+            int tex = (hit == 2) ? TextureAtlas.EXIT : TextureAtlas.WALL;
+            int level = TextureAtlas.levelFor(span);
+            int size = TextureAtlas.size(level);
+
+            // 벽 면 위 위치 -> 텍스처 열. 보는 방향에 따라 좌우가 뒤집히지 않게 맞춤
+            int u = (int) (hitOffset[x] * size);
+            if ((hitSide[x] == 0 && rayX > 0) || (hitSide[x] == 1 && rayY < 0)) u = size - 1 - u;
+            int column = textures.offset(tex, level) + u * size;
+
+            // 세로 방향 텍스처 좌표 (16.16 고정소수점)
+            long step = ((long) size << 16) / span;
+            long texPos = (long) (y1 - (height / 2 - h / 2)) * step;
+            int mask = size - 1;
+
+            for (int y = y1; y < y2; y++) {
+                int col = texels[column + (int) ((texPos >> 16) & mask)];
+                texPos += step;
+                int idx = x + y * width;
+                pixels[idx] = shade(col, idx, bright);
+            }
+        }
+    }
+
+    private void castRay(double px, double py, double rayX, double rayY, int col) {
+        int mapX = (int) px;
+        int mapY = (int) py;
+        MazeGrid grid = this.grid;
+        byte[] cells = grid.cells;
+        int cell = grid.index(mapX, mapY);
+
+        double deltaX = rayX == 0 ? Double.MAX_VALUE : Math.abs(1.0 / rayX);
+        double deltaY = rayY == 0 ? Double.MAX_VALUE : Math.abs(1.0 / rayY);
+
+        int stepX, stepY;
+        double sideX, sideY;
+        // 칸 번호를 바로 옮겨 다님 (가로 한 칸 = 1, 세로 한 칸 = stride)
+        if (rayX < 0) { stepX = -1; sideX = (px - mapX) * deltaX; }
+        else          { stepX = 1;  sideX = (mapX + 1.0 - px) * deltaX; }
+        if (rayY < 0) { stepY = -grid.stride; sideY = (py - mapY) * deltaY; }
+        else          { stepY = grid.stride;  sideY = (mapY + 1.0 - py) * deltaY; }
+
+        int hit = 0;
+        int side = 0;
+        double dist = 0.0;
+
+        while (true) {
+            if (sideX < sideY) {
+                dist = sideX;
+                sideX += deltaX;
+                cell += stepX;
+                side = 0;
+            } else {
+                dist = sideY;
+                sideY += deltaY;
+                cell += stepY;
+                side = 1;
+            }
+            if (dist >= MAX_DIST) break;
+            // 미로(또는 창) 둘레가 벽으로 덧대져 있으므로 범위 검사 없이 읽음
+            hit = cells[cell];
+            if (hit != 0) break;
+        }
+
+        if (hit == 0) {
+            hitDist[col] = MAX_DIST;
+            hitCell[col] = 0;
+            hitSide[col] = side;
+            hitOffset[col] = 0;
+            return;
+        }
+
+        double wallPos = (side == 0) ? py + dist * rayY : px + dist * rayX;
+
+        hitDist[col] = dist;
+        hitCell[col] = hit;
+        hitSide[col] = side;
+        hitOffset[col] = wallPos - Math.floor(wallPos);
+    }
+
+    // 이번 프레임에 보이는 스프라이트를 모으고 멀리 있는 것부터 정렬
+    private void collectSprites(WorldSnapshot snap, double cos, double sin) {
+        int max = items.size() + 1;
+        if (spriteOrder == null || spriteOrder.length < max) {
+            spriteOrder = new int[max];
+            spriteDepth = new double[max];
+            spriteX = new int[max];
+            spriteY = new int[max];
+            spriteHalf = new int[max];
+            spriteColor = new int[max];
+            spriteEyeColor = new int[max];
+            spriteKind = new int[max];
+        }
+        spriteCount = 0;
+
+        for (int n = 0; n < items.size(); n++) {
+            if (snap.itemCollected[n]) continue;
+            Item it = items.get(n);
+
+            double dx = it.x - snap.camX;
+            double dy = it.y - snap.camY;
+
+            double perpDist = dx * cos + dy * sin;
+            if (perpDist < 0.05) continue;
+
+            double projX = (-dx * sin + dy * cos) / perpDist;
+            int sx = (int) (projX * (width / 2.0) + width / 2.0);
+
+            int size = (int) (350.0 * spriteScale / perpDist);
+            if (size < 8) continue;
+
+            int half = size / 2;
+            if (sx + half < 0 || sx - half >= width) continue;
+
+            int sy = height / 2 - half + (int) (Math.sin(snap.itemBob[n]) * 15 * spriteScale);
+            if (sy + half < 0 || sy - half >= height) continue;
+
+            int color = switch (it.type) {
+                case STAMINA -> 0x66FF66;
+                case FREEZE -> 0xFFFF66;
+                case FLASHLIGHT -> 0x66AAFF;
+            };
+
+            addSprite(SPRITE_ITEM, perpDist, sx, sy, half, color, 0);
+            itemSpans = spanTable(itemSpans, half, 0.8);
+        }
+
+        if (snap.monsterSpawned) {  // 스폰 전에는 안 보임
+            double dx = snap.monsterX - snap.camX;
+            double dy = snap.monsterY - snap.camY;
+
+            double perpDist = dx * cos + dy * sin;
+            if (perpDist >= 0.1) {
+                double projX = (-dx * sin + dy * cos) / perpDist;
+                int sx = (int) (projX * (width / 2.0) + width / 2.0);
+                int size = (int) (400.0 * spriteScale / perpDist);
+                int half = size / 2;
+
+                if (size >= 10 && sx + half >= 0 && sx - half < width) {
+                    int sy = height / 2 - half + (int) (20 * spriteScale);
+                    int bodyColor = snap.monsterFrozen ? 0x444444 : 0x000000;
+                    int eyeColor = snap.monsterFrozen ? 0x8888FF : 0xFF0000;
+
+                    addSprite(SPRITE_MONSTER, perpDist, sx, sy, half, bodyColor, eyeColor);
+                    circleSpans = spanTable(circleSpans, half, 1.0);
+                    circleSpans = spanTable(circleSpans, size / 6, 1.0);
+                }
+            }
+        }
+
+        // 삽입 정렬 (스프라이트 수가 적음): 먼 것부터 그려서 가까운 것이 위를 덮음
+        for (int i = 1; i < spriteCount; i++) {
+            int s = spriteOrder[i];
+            int j = i - 1;
+            while (j >= 0 && spriteDepth[spriteOrder[j]] < spriteDepth[s]) {
+                spriteOrder[j + 1] = spriteOrder[j];
+                j--;
+            }
+            spriteOrder[j + 1] = s;
+        }
+    }
+
+    private void addSprite(int kind, double depth, int sx, int sy, int half, int color, int eyeColor) {
+        int i = spriteCount++;
+        spriteOrder[i] = i;
+        spriteKind[i] = kind;
+        spriteDepth[i] = depth;
+        spriteX[i] = sx;
+        spriteY[i] = sy;
+        spriteHalf[i] = half;
+        spriteColor[i] = color;
+        spriteEyeColor[i] = eyeColor;
+    }
+
+    // 반지름 r의 원에서 열 |ix|마다 세로 반높이 (ix² + iy² <= ratio * r² 인 최대 |iy|, 없으면 -1)
+    // 반지름별로 한 번만 만들고 재사용 (더 큰 반지름이 나오면 표 배열을 늘림)
+    private static int[][] spanTable(int[][] tables, int r, double ratio) {
+        if (tables == null) tables = new int[64][];
+        if (r >= tables.length) tables = Arrays.copyOf(tables, Math.max(r + 1, tables.length * 2));
+        if (tables[r] != null) return tables;
+
+        int[] t = new int[r + 1];
+        double limit = r * r * ratio;
+        for (int ix = 0; ix <= r; ix++) {
+            double rem = limit - (double) ix * ix;
+            if (rem < 0) { t[ix] = -1; continue; }
+            int k = (int) Math.sqrt(rem);
+            while ((double) (k + 1) * (k + 1) <= rem) k++;
+            while ((double) k * k > rem) k--;
+            t[ix] = k;
+        }
+        tables[r] = t;
+        return tables;
+    }
+
+    // 열 범위 [x0, x1) 안의 스프라이트를 먼 것부터 그림
+    private void renderSprites(int x0, int x1) {
+        for (int n = 0; n < spriteCount; n++) {
+            int s = spriteOrder[n];
+            int sx = spriteX[s];
+            int sy = spriteY[s];
+            int half = spriteHalf[s];
+            if (sx + half < x0 || sx - half >= x1) continue;
+
+            double depth = spriteDepth[s];
+
+            if (spriteKind[s] == SPRITE_ITEM) {
+                // 아이템 본체 (원형)
+                fillDisc(itemSpans[half], sx, sy, -half, half - 1, spriteColor[s], depth, x0, x1);
+
+                // 빛나는 테두리
+                int glow = 0xFFFFFF;
+                for (int i = 0; i < half; i += 3) {
+                    plot(sx + i, sy, glow, depth, x0, x1);
+                    plot(sx - i, sy, glow, depth, x0, x1);
+                    plot(sx, sy + i, glow, depth, x0, x1);
+                    plot(sx, sy - i, glow, depth, x0, x1);
+                }
+            } else {
+                // 몸체
+                fillDisc(circleSpans[half], sx, sy, -half, half - 1, spriteColor[s], depth, x0, x1);
+
+                // 눈
+                int size = half * 2;
+                int eyeSize = size / 6;
+                int eyeOffset = size / 4;
+                int[] eye = circleSpans[eyeSize];
+                fillDisc(eye, sx - eyeOffset, sy - eyeOffset / 2, -eyeSize, eyeSize, spriteEyeColor[s], depth, x0, x1);
+                fillDisc(eye, sx + eyeOffset, sy - eyeOffset / 2, -eyeSize, eyeSize, spriteEyeColor[s], depth, x0, x1);
+            }
+        }
+    }
+
+    // 원을 세로 span 단위로 채움. zBuffer는 열마다 한 번만 검사
+    // [lo, hi]는 원 중심 기준 가로/세로 좌표 범위
+    private void fillDisc(int[] spans, int cx, int cy, int lo, int hi, int color, double depth, int x0, int x1) {
+        int from = Math.max(lo, x0 - cx);
+        int to = Math.min(hi, x1 - 1 - cx);
+
+        for (int ix = from; ix <= to; ix++) {
+            int px = cx + ix;
+            if (depth >= zBuffer[px]) continue;
+
+            int k = spans[Math.abs(ix)];
+            if (k < 0) continue;
+
+            int y1 = Math.max(Math.max(cy - k, cy + lo), 0);
+            int y2 = Math.min(Math.min(cy + k, cy + hi), height - 1);
+
+            for (int idx = px + y1 * width, end = px + y2 * width; idx <= end; idx += width) {
+                pixels[idx] = shade(color, idx);
+            }
+        }
+    }
+
+    private void plot(int px, int py, int color, double depth, int x0, int x1) {
+        if (px >= x0 && px < x1 && py >= 0 && py < height && depth < zBuffer[px]) {
+            int idx = px + py * width;
+            pixels[idx] = shade(color, idx);
+        }
+    }
+
+    // 손전등 vignette 마스크: 해상도에만 의존하므로 한 번만 계산 (0~255)
+    private void buildVignetteMask() {
+        vignette = new byte[width * height];
+
+        int centerX = width / 2;
+        int centerY = height / 2;
+        double maxRadius = Math.hypot(centerX, centerY) * 0.9;
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                double v = 1.0 - Math.hypot(x - centerX, y - centerY) / maxRadius;
+                vignette[x + y * width] = (byte) (int) Math.round(Math.max(0, v) * 255);
+            }
+        }
+    }
+
+    // 픽셀 하나에 vignette * 손전등 밝기 적용 (R/B 한 번, G 한 번 곱셈)
+    private int shade(int col, int idx) {
+        return shade(col, idx, frameBright);
+    }
+
+    // bright: 256 = 1.0
+    private int shade(int col, int idx, int bright) {
+        int s = ((vignette[idx] & 255) * bright) >> 8;
+        return ((((col & 0xFF00FF) * s) >> 8) & 0xFF00FF)
+                | ((((col & 0x00FF00) * s) >> 8) & 0x00FF00);
+    }
+
+    // RecursiveAction이 Serializable이라 버전 번호만 붙임 (작업 객체를 직렬화할 일은 없음)
+    private class FrameTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void compute() {
+            long t0 = System.nanoTime();
+            runStrips(PHASE_WALLS);
+            long t1 = System.nanoTime();
+
+            // 아이템, 몬스터 렌더링 (먼 것부터). 스프라이트 목록은 한 번만 모음
+            collectSprites(frame, frameCos, frameSin);
+            runStrips(PHASE_SPRITES);
+
+            phaseNanos[PHASE_WALLS] = t1 - t0;
+            phaseNanos[PHASE_SPRITES] = System.nanoTime() - t1;
+        }
+
+        private void runStrips(int phase) {
+            stripPhase = phase;
+            for (int i = 0; i < strips.length; i++) strips[i].reinitialize();
+            ForkJoinTask.invokeAll(strips);
+        }
+    }
+
+    private class StripTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int x0, x1;
+
+        StripTask(int x0, int x1) {
+            this.x0 = x0;
+            this.x1 = x1;
+        }
+
+        @Override
+        protected void compute() {
+            if (stripPhase == PHASE_WALLS) renderWalls(x0, x1);
+            else renderSprites(x0, x1);
+        }
+    }
 }
\ No newline at end of file
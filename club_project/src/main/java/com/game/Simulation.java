@@ -0,0 +1,127 @@
+package com.game;
+
+import java.awt.Point;
+import java.util.List;
+
+// 게임 로직 한 틱 (카메라 이동, 몬스터, 아이템). Swing과 무관해서 헤드리스로도 돌릴 수 있음
+public class Simulation {
+
+    public static final double DT = 1.0 / 60.0;
+
+    public final MazeMap map;
+    public final List<Point> escapePath;
+    public final List<Item> items;
+    public final Camera camera;
+    public final FlowField flow = new FlowField();  // 몬스터들이 같이 쓰는 플레이어까지의 걸음 수 표
+
+    public long tick = 0;
+    public PerfStats stats;  // null이 아니면 틱/경로 계산 시간을 기록
+    public InputRecording recording;  // null이 아니면 틱마다 입력을 기록
+
+    // 틱 도중 EDT가 키 상태를 바꿔도 결과가 같도록 틱 시작 시 복사해 둔 입력
+    private final Input latched = new Input();
+
+    // 직전 틱의 위치 (렌더 보간용)
+    private double prevCamX, prevCamY, prevCamRot;
+    private double prevMonsterX, prevMonsterY;
+
+    public Simulation(MazeMap map, List<Point> escapePath, List<Item> items, Camera camera) {
+        this.map = map;
+        this.escapePath = escapePath;
+        this.items = items;
+        this.camera = camera;
+        Monster mon = camera.getMonster();
+        if (mon != null) mon.flow = flow;
+        rememberPrevious();
+    }
+
+    private void rememberPrevious() {
+        prevCamX = camera.x;
+        prevCamY = camera.y;
+        prevCamRot = camera.rot;
+        Monster mon = camera.getMonster();
+        prevMonsterX = mon != null ? mon.x : 0;
+        prevMonsterY = mon != null ? mon.y : 0;
+    }
+
+    public void tick(Input in, boolean showPath) {
+        int flags = in.flags();
+        double rotation = in.takeRotation();
+        if (recording != null) recording.record(flags, rotation, showPath);
+        step(flags, rotation, showPath);
+    }
+
+    // 입력 한 틱(Input.flags() 값 + 회전량)을 적용. 재생할 때는 기록된 값으로 바로 호출
+    public void step(int flags, double rotation, boolean showPath) {
+        long t0 = System.nanoTime();
+        tick++;
+        rememberPrevious();
+
+        latched.setFlags(flags);
+        camera.rotate(rotation);
+        if (map instanceof ChunkedMaze world) world.prefetch(camera.x, camera.y);
+
+        // 몬스터는 항상 escapePath를 따라감, showPath는 플레이어 시야만
+        camera.update(latched, map, DT, escapePath, showPath);
+        camera.collectItems(items);
+
+        for (int i = 0; i < items.size(); i++) {
+            Item it = items.get(i);
+            if (!it.collected) it.update();
+        }
+
+        if (stats != null) {
+            stats.record(PerfStats.TICK, System.nanoTime() - t0);
+            Monster mon = camera.getMonster();
+            if (mon != null && mon.pathNanos > 0) {
+                stats.record(PerfStats.PATHFIND, mon.pathNanos);
+                mon.pathNanos = 0;
+            }
+        }
+    }
+
+    // 현재 상태를 스냅샷에 복사
+    public void capture(WorldSnapshot snap, double elapsedTime) {
+        snap.tick = tick;
+        snap.capture(camera, items, elapsedTime);
+        snap.prevCamX = prevCamX;
+        snap.prevCamY = prevCamY;
+        snap.prevCamRot = prevCamRot;
+        snap.prevMonsterX = prevMonsterX;
+        snap.prevMonsterY = prevMonsterY;
+    }
+
+    // 게임 상태 전체의 해시. 재생 결과가 기록할 때와 같은지 비교하는 데 씀
+    public long stateHash() {
+        long h = tick;
+        h = mix(h, Double.doubleToLongBits(camera.x));
+        h = mix(h, Double.doubleToLongBits(camera.y));
+        h = mix(h, Double.doubleToLongBits(camera.rot));
+        h = mix(h, Double.doubleToLongBits(camera.stamina));
+        h = mix(h, Double.doubleToLongBits(camera.flashlightDuration));
+        h = mix(h, Double.doubleToLongBits(camera.monsterFreezeTime));
+        h = mix(h, (camera.escaped ? 1 : 0) | (camera.gameOver ? 2 : 0));
+
+        Monster mon = camera.getMonster();
+        if (mon != null) {
+            h = mix(h, Double.doubleToLongBits(mon.x));
+            h = mix(h, Double.doubleToLongBits(mon.y));
+            h = mix(h, Double.doubleToLongBits(mon.freezeTime));
+            h = mix(h, (mon.spawned ? 1 : 0) | (mon.frozen ? 2 : 0));
+        }
+
+        for (int i = 0; i < items.size(); i++) {
+            h = mix(h, items.get(i).collected ? 1 : 0);
+        }
+        return h;
+    }
+
+    private static long mix(long h, long v) {
+        h = (h ^ v) * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    public boolean isOver() {
+        return camera.escaped || camera.gameOver;
+    }
+}
@@ -0,0 +1,40 @@
+package com.game;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 잠금 없는 삼중 버퍼: 시뮬레이션 스레드가 뒤 버퍼에 쓰고 publish하면
+// 렌더 스레드는 acquire로 가장 최근 것을 가져감. 서로 기다리지 않음
+public class SnapshotBuffer {
+
+    private static final int FRESH = 4;       // 아직 읽지 않은 새 스냅샷이 있음
+    private static final int INDEX_MASK = 3;
+
+    private final WorldSnapshot[] buffers = new WorldSnapshot[3];
+
+    // 가운데 버퍼 번호 (+ FRESH 비트)
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;   // 시뮬레이션 스레드 전용
+    private int front = 2;  // 렌더 스레드 전용
+
+    public SnapshotBuffer(int itemCount) {
+        for (int i = 0; i < buffers.length; i++) buffers[i] = new WorldSnapshot(itemCount);
+    }
+
+    // 시뮬레이션 스레드: 다음에 채울 스냅샷
+    public WorldSnapshot back() {
+        return buffers[back];
+    }
+
+    // 시뮬레이션 스레드: back()에 다 쓴 뒤 호출
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    // 렌더 스레드: 가장 최근에 publish된 스냅샷 (새 것이 없으면 직전 것)
+    public WorldSnapshot acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return buffers[front];
+    }
+}
@@ -0,0 +1,121 @@
+package com.game;
+
+// 벽 텍스처 모음. 모든 텍스처와 밉맵을 int[] 하나에 열 우선(column-major)으로 저장해서
+// 벽 한 열을 위에서 아래로 그릴 때 메모리를 순서대로 읽음
+public class TextureAtlas {
+
+    public static final int WALL = 0;
+    public static final int EXIT = 1;
+    private static final int TEXTURE_COUNT = 2;
+
+    public static final int SIZE = 64;                        // 0단계 텍스처 크기 (2의 거듭제곱)
+    public static final int LEVELS = Integer.numberOfTrailingZeros(SIZE) + 1;  // 64, 32, ..., 1
+
+    private final int[] texels;
+    private final int[][] offsets = new int[TEXTURE_COUNT][LEVELS];
+
+    public TextureAtlas() {
+        int perTexture = 0;
+        for (int l = 0; l < LEVELS; l++) perTexture += size(l) * size(l);
+        texels = new int[perTexture * TEXTURE_COUNT];
+
+        int pos = 0;
+        for (int t = 0; t < TEXTURE_COUNT; t++) {
+            for (int l = 0; l < LEVELS; l++) {
+                offsets[t][l] = pos;
+                pos += size(l) * size(l);
+            }
+        }
+
+        paintBricks(WALL, 0x666666, 0x3A3A3A);
+        paintBricks(EXIT, 0x00CC00, 0x007700);
+
+        for (int t = 0; t < TEXTURE_COUNT; t++) {
+            for (int l = 1; l < LEVELS; l++) downsample(t, l);
+        }
+    }
+
+    public int[] texels() {
+        return texels;
+    }
+
+    // 텍스처 t의 밉 단계 l 시작 위치. 텍셀 (u, v)는 offset + u * size(l) + v
+    public int offset(int t, int l) {
+        return offsets[t][l];
+    }
+
+    public static int size(int level) {
+        return SIZE >> level;
+    }
+
+    // 화면에 h 픽셀 높이로 그릴 때 쓸 밉 단계 (텍셀이 픽셀보다 촘촘하지 않은 가장 큰 단계)
+    public static int levelFor(int h) {
+        int level = 0;
+        while (level < LEVELS - 1 && size(level) > h) level++;
+        return level;
+    }
+
+    // 벽돌 무늬: 16텍셀 높이 줄마다 반 칸씩 어긋나게, 벽돌마다 밝기를 조금씩 다르게
+    private void paintBricks(int t, int brick, int mortar) {
+        int base = offsets[t][0];
+        int brickW = SIZE / 2;
+        int brickH = SIZE / 4;
+
+        for (int u = 0; u < SIZE; u++) {
+            for (int v = 0; v < SIZE; v++) {
+                int row = v / brickH;
+                int shifted = u + ((row & 1) == 1 ? brickW / 2 : 0);
+                int col = (shifted / brickW) % 2;
+
+                boolean isMortar = v % brickH == 0 || shifted % brickW == 0;
+
+                int color;
+                if (isMortar) {
+                    color = mortar;
+                } else {
+                    // 벽돌 단위 밝기 차이 + 텍셀 단위 잡음
+                    int tone = 232 + (hash(row * 7 + col, t) & 31) - (hash(u * SIZE + v, t + 17) & 15);
+                    color = scale(brick, tone);
+                }
+                texels[base + u * SIZE + v] = color;
+            }
+        }
+    }
+
+    // 한 단계 위 텍스처의 2x2 평균
+    private void downsample(int t, int l) {
+        int src = offsets[t][l - 1];
+        int dst = offsets[t][l];
+        int srcSize = size(l - 1);
+        int dstSize = size(l);
+
+        for (int u = 0; u < dstSize; u++) {
+            for (int v = 0; v < dstSize; v++) {
+                int a = texels[src + (u * 2) * srcSize + v * 2];
+                int b = texels[src + (u * 2) * srcSize + v * 2 + 1];
+                int c = texels[src + (u * 2 + 1) * srcSize + v * 2];
+                int d = texels[src + (u * 2 + 1) * srcSize + v * 2 + 1];
+
+                int r = (((a >> 16) & 255) + ((b >> 16) & 255) + ((c >> 16) & 255) + ((d >> 16) & 255)) / 4;
+                int g = (((a >> 8) & 255) + ((b >> 8) & 255) + ((c >> 8) & 255) + ((d >> 8) & 255)) / 4;
+                int bl = ((a & 255) + (b & 255) + (c & 255) + (d & 255)) / 4;
+                texels[dst + u * dstSize + v] = (r << 16) | (g << 8) | bl;
+            }
+        }
+    }
+
+    private static int scale(int color, int s) {
+        int r = Math.min(255, ((color >> 16) & 255) * s >> 8);
+        int g = Math.min(255, ((color >> 8) & 255) * s >> 8);
+        int b = Math.min(255, (color & 255) * s >> 8);
+        return (r << 16) | (g << 8) | b;
+    }
+
+    private static int hash(int x, int seed) {
+        int h = x * 0x9E3779B1 + seed * 0x85EBCA6B;
+        h ^= h >>> 15;
+        h *= 0x2C1B3C6D;
+        h ^= h >>> 13;
+        return h;
+    }
+}
@@ -0,0 +1,135 @@
+package com.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.random.RandomGenerator;
+
+// 큰 미로용 병렬 생성: 방을 TILE x TILE 조각(타일)으로 나눠 ForkJoin 작업자들이 각자 파고,
+// 타일끼리는 union-find로 고른 경계에만 통로를 하나씩 뚫어 완전 미로로 이음.
+// 타일마다 (기준 시드, 타일 번호)로 만든 Random을 쓰므로 스레드 수와 상관없이 결과가 같음
+public class TiledMaze implements MazeAlgorithm {
+
+    public static final int TILE = 128;  // 타일 한 변의 방 수 (257 x 257칸 = 약 64KB, L2에 들어감)
+
+    private final MazeAlgorithm inner;
+    private final ForkJoinPool pool;
+
+    // pool이 null이면 공용 풀
+    public TiledMaze(MazeAlgorithm inner, ForkJoinPool pool) {
+        this.inner = inner;
+        this.pool = pool;
+    }
+
+    @Override
+    public String name() {
+        return "tiled";
+    }
+
+    @Override
+    public void carve(MazeGrid m, RandomGenerator r) {
+        int cols = m.roomCols();
+        int rows = m.roomRows();
+        if (cols == 0 || rows == 0) return;
+
+        long base = r.nextLong();
+        int tilesX = (cols + TILE - 1) / TILE;
+        int tilesY = (rows + TILE - 1) / TILE;
+
+        // 타일은 서로 다른 칸에만 쓰므로 순서와 상관없이 같은 결과
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(tilesX * tilesY);
+        for (int t = 0; t < tilesX * tilesY; t++) {
+            int tx = t % tilesX, ty = t / tilesX;
+            long seed = mix(base + t);
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    carveTile(m, tx, ty, seed);
+                }
+            });
+        }
+        ForkJoinPool p = pool != null ? pool : ForkJoinPool.commonPool();
+        p.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(tasks);
+            }
+        });
+
+        stitch(m, tilesX, tilesY, new Random(base));
+    }
+
+    // 타일 하나를 작은 격자에 파서 큰 격자의 제자리로 복사 (타일 둘레 벽은 건드리지 않음)
+    private void carveTile(MazeGrid m, int tx, int ty, long seed) {
+        int w = Math.min(TILE, m.roomCols() - tx * TILE);
+        int h = Math.min(TILE, m.roomRows() - ty * TILE);
+        MazeGrid tile = new MazeGrid(w * 2 + 1, h * 2 + 1);
+        inner.carve(tile, new Random(seed));
+
+        int x0 = tx * TILE * 2;
+        int y0 = ty * TILE * 2;
+        for (int y = 1; y < h * 2; y++) {
+            System.arraycopy(tile.cells, tile.index(1, y), m.cells, m.index(x0 + 1, y0 + y), w * 2 - 1);
+        }
+    }
+
+    // 타일을 노드로 한 Kruskal: 이웃 타일 경계를 섞어 보고 아직 다른 집합이면 경계 위 무작위 위치에
+    // 통로 하나를 뚫음. 각 타일이 나무이고 타일끼리도 나무로 이어지므로 전체가 완전 미로
+    private static void stitch(MazeGrid m, int tilesX, int tilesY, Random r) {
+        int n = tilesX * tilesY;
+
+        // 경계 = 타일 번호 * 2 + (0: 오른쪽, 1: 아래쪽)
+        int[] edges = new int[n * 2];
+        int count = 0;
+        for (int t = 0; t < n; t++) {
+            if (t % tilesX + 1 < tilesX) edges[count++] = t * 2;
+            if (t / tilesX + 1 < tilesY) edges[count++] = t * 2 + 1;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = r.nextInt(i + 1);
+            int e = edges[i]; edges[i] = edges[j]; edges[j] = e;
+        }
+
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) parent[i] = i;
+
+        for (int k = 0; k < count; k++) {
+            int a = edges[k] >> 1;
+            boolean right = (edges[k] & 1) == 0;
+            int b = right ? a + 1 : a + tilesX;
+            int ra = find(parent, a);
+            int rb = find(parent, b);
+            if (ra == rb) continue;
+            parent[rb] = ra;
+
+            // 경계를 따라 놓인 방 중 하나를 골라 그 방과 건너편 방 사이 벽을 허묾
+            int tx = a % tilesX, ty = a / tilesX;
+            if (right) {
+                int h = Math.min(TILE, m.roomRows() - ty * TILE);
+                int y = (ty * TILE + r.nextInt(h)) * 2 + 1;
+                m.set((tx + 1) * TILE * 2, y, MazeGrid.FLOOR);
+            } else {
+                int w = Math.min(TILE, m.roomCols() - tx * TILE);
+                int x = (tx * TILE + r.nextInt(w)) * 2 + 1;
+                m.set(x, (ty + 1) * TILE * 2, MazeGrid.FLOOR);
+            }
+        }
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static long mix(long h) {
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+}
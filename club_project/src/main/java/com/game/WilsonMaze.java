@@ -0,0 +1,70 @@
+package com.game;
+
+import java.util.random.RandomGenerator;
+
+// Wilson: 미로 밖의 칸에서 무작위 걸음을 하다 미로에 닿으면, 고리를 지운 걸음을 통로로 새김.
+// 가능한 모든 완전 미로 중 하나를 균등하게 뽑음 (편향 없음). 초반 걸음이 길어서 느린 편
+public class WilsonMaze implements MazeAlgorithm {
+
+    private static final byte NONE = -1;
+
+    @Override
+    public String name() {
+        return "wilson";
+    }
+
+    @Override
+    public void carve(MazeGrid m, RandomGenerator r) {
+        int cols = m.roomCols();
+        int rows = m.roomRows();
+        int n = cols * rows;
+        if (n == 0) return;
+
+        boolean[] inMaze = new boolean[n];
+        // 걸음 중 각 칸에서 마지막으로 떠난 방향 (0 오른쪽, 1 왼쪽, 2 아래, 3 위). 고리는 덮어써서 자동으로 지워짐
+        byte[] exit = new byte[n];
+
+        int first = r.nextInt(n);
+        inMaze[first] = true;
+        m.cells[m.roomIndex(first)] = MazeGrid.FLOOR;
+
+        for (int start = 0; start < n; start++) {
+            if (inMaze[start]) continue;
+
+            // 미로에 닿을 때까지 걸음
+            int c = start;
+            while (!inMaze[c]) {
+                int cx = c % cols, cy = c / cols;
+                int dir, next;
+                do {
+                    dir = r.nextInt(4);
+                    next = neighbor(c, cx, cy, dir, cols, rows);
+                } while (next < 0);
+                exit[c] = (byte) dir;
+                c = next;
+            }
+
+            // 남은 방향을 따라가며 통로를 새김
+            c = start;
+            while (!inMaze[c]) {
+                int next = neighbor(c, c % cols, c / cols, exit[c], cols, rows);
+                int gc = m.roomIndex(c);
+                int gn = m.roomIndex(next);
+                m.cells[gc] = MazeGrid.FLOOR;
+                m.cells[(gc + gn) >> 1] = MazeGrid.FLOOR;
+                inMaze[c] = true;
+                exit[c] = NONE;
+                c = next;
+            }
+        }
+    }
+
+    private static int neighbor(int c, int cx, int cy, int dir, int cols, int rows) {
+        return switch (dir) {
+            case 0 -> cx + 1 < cols ? c + 1 : -1;
+            case 1 -> cx > 0 ? c - 1 : -1;
+            case 2 -> cy + 1 < rows ? c + cols : -1;
+            default -> cy > 0 ? c - cols : -1;
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.game;
+
+import java.util.List;
+
+// 한 틱이 끝난 시점의 월드 상태 사본. 렌더 스레드는 이것만 읽음
+// SnapshotBuffer가 몇 개를 돌려쓰므로 매 틱 새로 만들지 않음
+public class WorldSnapshot {
+
+    public long tick;
+    public double elapsedTime;
+    public long publishNanos;  // System.nanoTime() 기준 publish 시각
+
+    // 카메라 (플레이어)
+    public double camX, camY, camRot;
+    public double stamina;
+    public double flashlightBoost;
+
+    // 몬스터
+    public boolean monsterSpawned, monsterFrozen;
+    public double monsterX, monsterY;
+
+    // 직전 틱 위치 (틱 사이 보간용)
+    public double prevCamX, prevCamY, prevCamRot;
+    public double prevMonsterX, prevMonsterY;
+
+    // 아이템 (위치와 종류는 바뀌지 않으므로 Item에서 직접 읽음)
+    public final boolean[] itemCollected;
+    public final double[] itemBob;
+    public int collectedCount;
+
+    // HUD 표시용
+    public boolean showPath;
+    public boolean shiftLock;
+
+    public WorldSnapshot(int itemCount) {
+        itemCollected = new boolean[itemCount];
+        itemBob = new double[itemCount];
+    }
+
+    public void capture(Camera cam, List<Item> items, double elapsedTime) {
+        this.elapsedTime = elapsedTime;
+
+        camX = cam.x;
+        camY = cam.y;
+        camRot = cam.rot;
+        stamina = cam.stamina;
+        flashlightBoost = cam.flashlightBoost;
+
+        Monster mon = cam.getMonster();
+        monsterSpawned = mon != null && mon.spawned;
+        monsterFrozen = mon != null && mon.frozen;
+        monsterX = mon != null ? mon.x : 0;
+        monsterY = mon != null ? mon.y : 0;
+
+        prevCamX = camX;
+        prevCamY = camY;
+        prevCamRot = camRot;
+        prevMonsterX = monsterX;
+        prevMonsterY = monsterY;
+
+        collectedCount = 0;
+        for (int i = 0; i < itemCollected.length; i++) {
+            Item it = items.get(i);
+            itemCollected[i] = it.collected;
+            itemBob[i] = it.bob;
+            if (it.collected) collectedCount++;
+        }
+    }
+
+    // from을 복사하되 카메라/몬스터 위치는 직전 틱과 alpha(0~1) 비율로 섞음
+    public void interpolate(WorldSnapshot from, double alpha) {
+        tick = from.tick;
+        elapsedTime = from.elapsedTime;
+        publishNanos = from.publishNanos;
+
+        camX = lerp(from.prevCamX, from.camX, alpha);
+        camY = lerp(from.prevCamY, from.camY, alpha);
+        camRot = lerp(from.prevCamRot, from.camRot, alpha);
+        stamina = from.stamina;
+        flashlightBoost = from.flashlightBoost;
+
+        monsterSpawned = from.monsterSpawned;
+        monsterFrozen = from.monsterFrozen;
+        monsterX = lerp(from.prevMonsterX, from.monsterX, alpha);
+        monsterY = lerp(from.prevMonsterY, from.monsterY, alpha);
+
+        prevCamX = from.prevCamX;
+        prevCamY = from.prevCamY;
+        prevCamRot = from.prevCamRot;
+        prevMonsterX = from.prevMonsterX;
+        prevMonsterY = from.prevMonsterY;
+
+        System.arraycopy(from.itemCollected, 0, itemCollected, 0, itemCollected.length);
+        System.arraycopy(from.itemBob, 0, itemBob, 0, itemBob.length);
+        collectedCount = from.collectedCount;
+
+        showPath = from.showPath;
+        shiftLock = from.shiftLock;
+    }
+
+    private static double lerp(double a, double b, double t) {
+        return a + (b - a) * t;
+    }
+}
@@ -0,0 +1,143 @@
+package com.game;
+
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+// 헤드리스 할당 검사: 워밍업 후 틱 + 프레임이 힙 할당을 하면 종료 코드 1
+// 한 줄 렌더링과 ForkJoin 병렬 렌더링(FrameTask/StripTask)을 둘 다 검사. 병렬 쪽은 작업자 스레드가
+// 할당하므로 살아 있는 모든 스레드의 할당량을 더해서 잼 (실패하면 할당한 스레드 이름도 찍음)
+// 카메라는 RenderBenchmark처럼 탈출 경로를 왕복하고 아이템은 그 경로 위에 둠. 그래서 측정 구간에
+// flow field 다시 만들기, 몬스터 추적, 아이템 줍기, Game.render의 확대 복사 + 미니맵 + HUD가 다 들어감
+// (화면 Graphics는 BufferStrategy 대신 미리 만든 이미지 하나에 그림)
+// mvn verify 단계에서 자동으로 돌아감 (pom.xml의 allocation-check)
+// 실행: java -Djava.awt.headless=true -cp target/test-classes:target/classes com.game.AllocationCheck
+public class AllocationCheck {
+
+    private static final long SEED = 42;
+    private static final int WARMUP_FRAMES = 8000;  // 탈출 경로(약 200칸)를 한 번 왕복해 모든 위치의 코드가 컴파일되게 함
+    private static final int MEASURED_FRAMES = 1200;
+    private static final int ITEM_RESET_FRAMES = 200;  // 이만큼마다 먹은 아이템을 되살려 다시 줍게 함
+    private static final int PARALLEL_THREADS = 2;  // 코어가 하나여도 스트립 경로를 타도록 고정
+    // 병렬 렌더링에서만 허용하는 양. pool.invoke/join으로 기다리는 스레드가 대기 노드를 만듦
+    // (ForkJoinTask.awaitDone, 프레임당 24바이트 안팎). 바쁜 대기로 없애기보다 받아들임
+    private static final int FORK_JOIN_BYTES_PER_FRAME = 64;
+
+    public static void main(String[] args) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            System.err.println("이 JVM은 스레드별 할당량 측정을 지원하지 않음");
+            System.exit(2);
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        boolean ok = check(threads, 1);
+        ok &= check(threads, PARALLEL_THREADS);
+        if (!ok) {
+            System.err.println("정상 상태 프레임/틱에서 할당이 발생함");
+            System.exit(1);
+        }
+    }
+
+    private static boolean check(com.sun.management.ThreadMXBean threads, int renderThreads) {
+        Walk walk = new Walk(renderThreads);
+        try {
+            for (int i = 0; i < WARMUP_FRAMES; i++) walk.step(i);
+
+            // 측정 자체의 오차(결과 배열)를 빼기 위해 빈 구간을 먼저 잼
+            long[] ids = threads.getAllThreadIds();
+            long[] empty = threads.getThreadAllocatedBytes(ids);
+            long[] before = threads.getThreadAllocatedBytes(ids);
+
+            for (int i = 0; i < MEASURED_FRAMES; i++) walk.step(WARMUP_FRAMES + i);
+            long[] after = threads.getThreadAllocatedBytes(ids);
+
+            long allocated = 0;
+            StringBuilder culprits = new StringBuilder();
+            for (int t = 0; t < ids.length; t++) {
+                if (after[t] < 0 || before[t] < 0) continue;  // 측정 중에 끝난 스레드
+                long bytes = after[t] - before[t] - (before[t] - empty[t]);
+                if (bytes <= 0) continue;
+                allocated += bytes;
+                culprits.append("\n  ").append(threads.getThreadInfo(ids[t]).getThreadName())
+                        .append(": ").append(bytes).append(" bytes");
+            }
+
+            long allowed = renderThreads > 1 ? (long) MEASURED_FRAMES * FORK_JOIN_BYTES_PER_FRAME : 0;
+            System.out.println("렌더 스레드 " + renderThreads + "개, 프레임 " + MEASURED_FRAMES
+                    + "개 동안 할당: " + allocated + " bytes (허용 " + allowed + ")" + culprits);
+            return allocated <= allowed;
+        } finally {
+            walk.dispose();
+        }
+    }
+
+    // 한 프레임 = 틱 + 렌더 + Game.render의 나머지. 문자열 상수를 두지 않는 별도 클래스로 둠
+    // (C2가 처음 컴파일하는 스레드에서 그 클래스의 문자열 상수를 전부 만드는데, 그게 측정 중이면 할당으로 잡힘)
+    private static class Walk {
+        final Simulation sim;
+        final SnapshotBuffer snapshots;
+        final WorldSnapshot view;
+        final Input input = new Input();
+        final Screen screen;
+        final MiniMap miniMap;
+        final Hud hud = new Hud();
+        final BufferedImage out = new BufferedImage(Game.WIDTH, Game.HEIGHT, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D g = out.createGraphics();
+
+        Walk(int renderThreads) {
+            Maze maze = new MazeGenerator(41, 41).generate(SEED);
+            sim = maze.newSimulation();
+            sim.stats = new PerfStats();  // 기록도 할당 없이 되는지 함께 확인
+            sim.camera.getMonster().spawned = true;
+
+            // 아이템을 경로 위에 고르게 옮겨 카메라가 지나가며 줍게 함
+            List<Item> items = sim.items;
+            List<Point> path = sim.escapePath;
+            for (int k = 0; k < items.size(); k++) {
+                Point p = path.get((k + 1) * (path.size() - 1) / (items.size() + 1));
+                items.get(k).x = p.x + 0.5;
+                items.get(k).y = p.y + 0.5;
+            }
+
+            snapshots = new SnapshotBuffer(items.size());
+            view = new WorldSnapshot(items.size());
+            screen = new Screen(Game.WIDTH, Game.HEIGHT, maze.grid, items);
+            if (renderThreads > 1) screen.setThreads(renderThreads);
+            miniMap = new MiniMap(maze.grid, items, path);
+            input.forward = true;
+        }
+
+        void step(int i) {
+            Camera camera = sim.camera;
+            // 몬스터는 매 프레임 카메라 앞에 다시 두므로 잡히지 않음. 두 칸 사이에서 한 틱은 표를 따라 쫓음
+            RenderBenchmark.place(camera, camera.getMonster(), sim.escapePath, i);
+            camera.gameOver = false;
+            camera.escaped = false;
+            input.sprint = (i / 120) % 2 == 0;
+            if (i % ITEM_RESET_FRAMES == 0) {
+                for (int k = 0; k < sim.items.size(); k++) sim.items.get(k).collected = false;
+            }
+
+            sim.tick(input, false);
+            sim.capture(snapshots.back(), i * Simulation.DT);
+            snapshots.publish();
+
+            view.interpolate(snapshots.acquire(), 0.5);
+            screen.render(view);
+
+            // Game.render와 같은 순서: 확대 복사, 미니맵, HUD
+            g.drawImage(screen.getImage(), 0, 0, Game.WIDTH, Game.HEIGHT, null);
+            miniMap.draw(g, Game.WIDTH - MiniMap.SIZE - 12, 12, view);
+            hud.draw(g, Game.WIDTH, Game.HEIGHT, view);
+        }
+
+        void dispose() {
+            g.dispose();
+            screen.dispose();
+        }
+    }
+}